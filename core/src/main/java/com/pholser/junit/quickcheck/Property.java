@@ -32,6 +32,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import com.pholser.junit.quickcheck.hook.NilMinimalCounterexampleHook;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.Random;
 
 /**
  * <p>Mark a method on a class that is {@linkplain org.junit.runner.RunWith
@@ -85,6 +86,82 @@ public @interface Property {
      */
     int maxShrinkTime() default 60_000;
 
+    /**
+     * <p>When greater than 1, this many {@linkplain
+     * com.pholser.junit.quickcheck.generator.Shrink shrink} candidates are
+     * verified concurrently; the shrinking process still settles on the same
+     * candidate it would have settled on verifying them one at a time. In
+     * effect only when {@link #shrink()} is {@code true}.</p>
+     *
+     * <p>A property whose shrink candidates are verified on several
+     * threads, and its {@link org.junit.Before}, {@link org.junit.After}
+     * and {@link org.junit.Rule} members, must be safe to run
+     * concurrently.</p>
+     *
+     * @return how many shrink candidates to verify concurrently
+     */
+    int shrinkParallelism() default 1;
+
+    /**
+     * <p>When {@code true}, the draws each generator makes from its source
+     * of randomness are recorded. Besides the generator's own {@linkplain
+     * com.pholser.junit.quickcheck.generator.Shrink shrinks}, shrinking then
+     * tries values regenerated from simpler draws: with runs of draws
+     * deleted, zeroed, or lowered. This shrinks values from generators that
+     * do not shrink on their own, such as those built by {@link
+     * com.pholser.junit.quickcheck.generator.Ctor} or {@link
+     * com.pholser.junit.quickcheck.generator.Fields}, and regenerated values
+     * always satisfy the parameter's {@link When#satisfies()} constraint.
+     * In effect only when {@link #shrink()} is {@code true}.</p>
+     *
+     * <p>Shrinking by draws usually takes more steps than shrinking by a
+     * generator's own shrinks; consider raising {@link #maxShrinks()} and
+     * {@link #maxShrinkDepth()}.</p>
+     *
+     * @return whether to shrink by simplifying recorded random draws
+     */
+    boolean shrinkChoices() default false;
+
+    /**
+     * <p>Trials run on this many worker threads, each with its own source
+     * of randomness. If a parameter's seed is fixed with
+     * {@link When#seed()}, the first worker uses that seed and each other
+     * worker uses a seed derived from it.</p>
+     *
+     * <p>A value less than 1 means: use the value of the system property
+     * {@code junit-quickcheck.parallelism}, or 1 if it is not set.</p>
+     *
+     * <p>Only {@link Mode#SAMPLING} mode uses parallel trials. A property
+     * verified on several threads, and its {@link org.junit.Before},
+     * {@link org.junit.After} and {@link org.junit.Rule} members, must be
+     * safe to run concurrently.</p>
+     *
+     * @return how many threads to verify the property's trials on
+     */
+    int parallelism() default 0;
+
+    /**
+     * <p>The kind of JDK source of randomness each property parameter's
+     * {@linkplain com.pholser.junit.quickcheck.random.SourceOfRandomness
+     * source of randomness} delegates to. It must have a public
+     * no-argument constructor. Besides {@link Random} itself, junit-quickcheck
+     * offers {@linkplain com.pholser.junit.quickcheck.random.RandomEngine
+     * faster engines} in package {@code com.pholser.junit.quickcheck.random}.
+     * </p>
+     *
+     * <p>Left as {@code Random.class}, the class named by the system property
+     * {@code junit-quickcheck.randomness} is used, or if it is not set, a
+     * {@linkplain com.pholser.junit.quickcheck.random.LinearCongruentialRandom
+     * replica} of {@link Random} whose state can be copied cheaply.</p>
+     *
+     * <p>Seeds are reported, and {@link When#seed()} is honored, whatever
+     * the kind; reproducing values from a reported seed requires the same
+     * kind.</p>
+     *
+     * @return the kind of JDK source of randomness to generate values from
+     */
+    Class<? extends Random> randomness() default Random.class;
+
     /**
      * @return callback that it is executed if a minimal counterexample
      * is found (after shrinking)
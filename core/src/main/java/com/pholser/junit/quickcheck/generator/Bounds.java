@@ -0,0 +1,260 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import static java.math.BigInteger.ONE;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.FLOOR;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * <p>Bounds on the values of a property parameter, and on their sizes, that
+ * the parameter's {@link com.pholser.junit.quickcheck.When#satisfies()
+ * constraint} implies.</p>
+ *
+ * <p>Generators can use them to avoid producing values that the constraint
+ * would discard; see {@link Generator#constrain(Bounds)}. Each {@code
+ * narrow} method gives the tighter of a generator's own limit and these
+ * bounds.</p>
+ */
+public final class Bounds {
+    private static final Bounds NONE =
+        new Bounds(null, true, null, true, 0, Integer.MAX_VALUE);
+
+    private final BigDecimal min;
+    private final boolean minInclusive;
+    private final BigDecimal max;
+    private final boolean maxInclusive;
+    private final int minSize;
+    private final int maxSize;
+
+    private Bounds(
+        BigDecimal min,
+        boolean minInclusive,
+        BigDecimal max,
+        boolean maxInclusive,
+        int minSize,
+        int maxSize) {
+
+        this.min = min;
+        this.minInclusive = minInclusive;
+        this.max = max;
+        this.maxInclusive = maxInclusive;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return bounds that allow any value of any size
+     */
+    public static Bounds none() {
+        return NONE;
+    }
+
+    /**
+     * @param least a lower bound on values
+     * @param inclusive whether values may equal the bound
+     * @return these bounds, further bounded below
+     */
+    public Bounds atLeast(BigDecimal least, boolean inclusive) {
+        if (min != null) {
+            int comparison = least.compareTo(min);
+            if (comparison < 0 || comparison == 0 && !minInclusive)
+                return this;
+        }
+
+        return new Bounds(
+            least, inclusive, max, maxInclusive, minSize, maxSize);
+    }
+
+    /**
+     * @param most an upper bound on values
+     * @param inclusive whether values may equal the bound
+     * @return these bounds, further bounded above
+     */
+    public Bounds atMost(BigDecimal most, boolean inclusive) {
+        if (max != null) {
+            int comparison = most.compareTo(max);
+            if (comparison > 0 || comparison == 0 && !maxInclusive)
+                return this;
+        }
+
+        return new Bounds(
+            min, minInclusive, most, inclusive, minSize, maxSize);
+    }
+
+    /**
+     * @param least a lower bound on sizes, inclusive
+     * @return these bounds, with sizes further bounded below
+     */
+    public Bounds sizeAtLeast(int least) {
+        return least <= minSize
+            ? this
+            : new Bounds(min, minInclusive, max, maxInclusive, least, maxSize);
+    }
+
+    /**
+     * @param most an upper bound on sizes, inclusive
+     * @return these bounds, with sizes further bounded above
+     */
+    public Bounds sizeAtMost(int most) {
+        return most >= maxSize
+            ? this
+            : new Bounds(min, minInclusive, max, maxInclusive, minSize, most);
+    }
+
+    /**
+     * @return whether these bounds allow any value of any size
+     */
+    public boolean isNone() {
+        return min == null
+            && max == null
+            && minSize == 0
+            && maxSize == Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param least a generator's least integral value, or {@code null} if
+     * unbounded
+     * @return the least integral value within both it and these bounds
+     */
+    public BigInteger narrowMin(BigInteger least) {
+        if (min == null)
+            return least;
+
+        BigInteger bound =
+            minInclusive
+                ? min.setScale(0, CEILING).toBigInteger()
+                : min.setScale(0, FLOOR).toBigInteger().add(ONE);
+        return least == null ? bound : least.max(bound);
+    }
+
+    /**
+     * @param most a generator's greatest integral value, or {@code null} if
+     * unbounded
+     * @return the greatest integral value within both it and these bounds
+     */
+    public BigInteger narrowMax(BigInteger most) {
+        if (max == null)
+            return most;
+
+        BigInteger bound =
+            maxInclusive
+                ? max.setScale(0, FLOOR).toBigInteger()
+                : max.setScale(0, CEILING).toBigInteger().subtract(ONE);
+        return most == null ? bound : most.min(bound);
+    }
+
+    /**
+     * @param least a generator's least integral value
+     * @return the least integral value within both it and these bounds,
+     * saturated to the range of {@code long}
+     */
+    public long narrowMin(long least) {
+        return saturated(narrowMin(BigInteger.valueOf(least)));
+    }
+
+    /**
+     * @param most a generator's greatest integral value
+     * @return the greatest integral value within both it and these bounds,
+     * saturated to the range of {@code long}
+     */
+    public long narrowMax(long most) {
+        return saturated(narrowMax(BigInteger.valueOf(most)));
+    }
+
+    /**
+     * @param least a generator's least value, or {@code null} if unbounded
+     * @return the greater of it and these bounds' lower bound
+     */
+    public BigDecimal narrowMin(BigDecimal least) {
+        if (min == null)
+            return least;
+        return least == null ? min : least.max(min);
+    }
+
+    /**
+     * @param most a generator's greatest value, or {@code null} if unbounded
+     * @return the lesser of it and these bounds' upper bound
+     */
+    public BigDecimal narrowMax(BigDecimal most) {
+        if (max == null)
+            return most;
+        return most == null ? max : most.min(max);
+    }
+
+    /**
+     * @param least a generator's least value
+     * @return the greater of it and these bounds' lower bound, moved up past
+     * the bound if the bound is exclusive
+     */
+    public double narrowMin(double least) {
+        if (min == null)
+            return least;
+
+        double bound = min.doubleValue();
+        return Math.max(least, minInclusive ? bound : Math.nextUp(bound));
+    }
+
+    /**
+     * @param most a generator's greatest value
+     * @return the lesser of it and these bounds' upper bound
+     */
+    public double narrowMax(double most) {
+        return max == null ? most : Math.min(most, max.doubleValue());
+    }
+
+    /**
+     * @param least a generator's least size
+     * @return the greater of it and these bounds' least size
+     */
+    public int narrowMinSize(int least) {
+        return Math.max(least, minSize);
+    }
+
+    /**
+     * @param most a generator's greatest size
+     * @return the lesser of it and these bounds' greatest size
+     */
+    public int narrowMaxSize(int most) {
+        return Math.min(most, maxSize);
+    }
+
+    @Override public String toString() {
+        return (min == null ? "(*" : (minInclusive ? "[" : "(") + min)
+            + ", "
+            + (max == null ? "*)" : max + (maxInclusive ? "]" : ")"))
+            + " size [" + minSize + ", " + maxSize + ']';
+    }
+
+    private static long saturated(BigInteger value) {
+        if (value.bitLength() < Long.SIZE)
+            return value.longValue();
+        return value.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+}
@@ -44,6 +44,11 @@ import java.lang.annotation.Target;
  *
  * <p>Using this annotation with {@link Size} on {@link java.util.Set} or
  * {@link java.util.Map} leads to strict size constraint.</p>
+ *
+ * <p>If generation keeps producing duplicates, as when there are fewer
+ * possible values than the size wanted, the generated value is as large as
+ * the distinct values made so far allow. If that falls short of the minimum
+ * size given by {@link Size}, generation fails.</p>
  */
 @Target({ PARAMETER, FIELD, ANNOTATION_TYPE, TYPE_USE })
 @Retention(RUNTIME)
@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.Pair;
+import com.pholser.junit.quickcheck.internal.AliasTable;
 import com.pholser.junit.quickcheck.internal.Items;
 import com.pholser.junit.quickcheck.internal.Weighted;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
@@ -216,8 +217,9 @@ public interface Gen<T> {
                 .map(p -> new Weighted<Gen<? extends U>>(p.second, p.first))
                 .collect(toList());
 
+        AliasTable<Gen<? extends U>> choices = new AliasTable<>(weighted);
         return (random, status) ->
-            Items.chooseWeighted(weighted, random)._gen(random, status);
+            choices.choose(random)._gen(random, status);
     }
 
     /**
@@ -25,29 +25,27 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import static com.pholser.junit.quickcheck.internal.Configurers.configurationAnnotations;
 import static com.pholser.junit.quickcheck.internal.Reflection.allAnnotations;
-import static com.pholser.junit.quickcheck.internal.Reflection.findMethod;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
-import static com.pholser.junit.quickcheck.internal.Reflection.invoke;
 import static java.math.BigDecimal.ONE;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.internal.Configurers;
 import com.pholser.junit.quickcheck.internal.ReflectionException;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 import org.javaruntype.type.Types;
 import org.javaruntype.type.WildcardTypeParameter;
@@ -118,6 +116,26 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return doShrink(random, narrow(larger));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Generators first ensure that they {@linkplain #canShrink(Object) can
+     * participate} in shrinking the given value, and if so, they
+     * {@linkplain #doShrinkLazily(SourceOfRandomness, Object) produce
+     * shrinks lazily}.</p>
+     */
+    @Override public final Stream<T> shrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
+        if (!canShrink(larger)) {
+            throw new IllegalStateException(
+                getClass() + " not capable of shrinking " + larger);
+        }
+
+        return doShrinkLazily(random, narrow(larger));
+    }
+
     /**
      * <p>Tells whether this generator is allowed to participate in the
      * {@link Shrink} process for the given "larger" value.</p>
@@ -149,6 +167,27 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         return emptyList();
     }
 
+    /**
+     * <p>Gives some objects that are "smaller" than a given "larger"
+     * object, producing each one only when the shrinking process asks for
+     * it.</p>
+     *
+     * <p>Unless overridden, a generator will produce the
+     * {@linkplain #doShrink(SourceOfRandomness, Object) list of "smaller"
+     * values} as a stream. Generators whose shrinks are numerous or costly
+     * to build, such as those of collections, should override this method,
+     * and answer {@link #doShrink(SourceOfRandomness, Object)} by collecting
+     * the stream.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object, smaller
+     * objects first
+     */
+    public Stream<T> doShrinkLazily(SourceOfRandomness random, T larger) {
+        return doShrink(random, larger).stream();
+    }
+
     /**
      * <p>Gives a hint to the shrinking process as to the magnitude of the given
      * value. The shrinking process will prefer trying values of greater
@@ -259,14 +298,33 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
      * the annotated type
      */
     public void configure(AnnotatedType annotatedType) {
-        configureStrict(collectConfigurationAnnotations(annotatedType));
+        configureStrict(configurationAnnotations(annotatedType));
     }
 
     /**
      * @param element an annotated program element
      */
     public void configure(AnnotatedElement element) {
-        configureLenient(collectConfigurationAnnotations(element));
+        configureLenient(configurationAnnotations(element));
+    }
+
+    /**
+     * <p>Narrows the values this generator produces to the given bounds,
+     * which a property parameter's {@link
+     * com.pholser.junit.quickcheck.When#satisfies() constraint} implies, so
+     * that fewer of them are discarded. The values are still checked against
+     * the constraint.</p>
+     *
+     * <p>This is called after {@linkplain #configure(AnnotatedType)
+     * configuration}. By default, it does nothing. Generators that take a
+     * range or size, such as via {@code configure} methods, can override it
+     * to narrow that range or size; if the bounds leave no values in their
+     * range, they should leave it as is.</p>
+     *
+     * @param bounds bounds on the generated values and their sizes
+     */
+    public void constrain(Bounds bounds) {
+        // do nothing by default
     }
 
     /**
@@ -334,20 +392,6 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
             .collect(toList());
     }
 
-    private Map<Class<? extends Annotation>, Annotation> collectConfigurationAnnotations(
-        AnnotatedElement element) {
-
-        if (element == null)
-            return emptyMap();
-
-        List<Annotation> configs = configurationAnnotationsOn(element);
-
-        Map<Class<? extends Annotation>, Annotation> byType = new HashMap<>();
-        for (Annotation each : configs)
-            byType.put(each.annotationType(), each);
-        return byType;
-    }
-
     private void configureStrict(Map<Class<? extends Annotation>, Annotation> byType) {
         for (Map.Entry<Class<? extends Annotation>, Annotation> each : byType.entrySet())
             configureStrict(each.getKey(), each.getValue());
@@ -387,15 +431,14 @@ public abstract class Generator<T> implements Gen<T>, Shrink<T> {
         Annotation configuration,
         Consumer<ReflectionException> exceptionHandler) {
 
-        Method configurer = null;
-
-        try {
-            configurer = findMethod(getClass(), "configure", annotationType);
-        } catch (ReflectionException ex) {
-            exceptionHandler.accept(ex);
+        if (!Configurers.configure(this, annotationType, configuration)) {
+            exceptionHandler.accept(
+                new ReflectionException(
+                    new NoSuchMethodException(
+                        getClass().getName()
+                            + ".configure("
+                            + annotationType.getName()
+                            + ')')));
         }
-
-        if (configurer != null)
-            invoke(configurer, this, configuration);
     }
 }
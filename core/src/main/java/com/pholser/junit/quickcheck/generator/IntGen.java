@@ -0,0 +1,112 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * <p>A strategy for generating random {@code int} values without boxing
+ * them.</p>
+ *
+ * <p>{@linkplain Generator Generators} of {@link Integer} that implement
+ * this interface let generators of {@code int[]} arrays and of collections
+ * fill many values at once, without boxing each one.</p>
+ */
+@FunctionalInterface
+public interface IntGen extends Gen<Integer> {
+    /**
+     * Generates a value, possibly influenced by a source of randomness and
+     * metadata about the generation.
+     *
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated
+     * value
+     * @return the generated value
+     */
+    int generateInt(SourceOfRandomness random, GenerationStatus status);
+
+    /**
+     * Fills the given array with generated values.
+     *
+     * @param random source of randomness to be used when generating the values
+     * @param status an object that can be used to influence the generated
+     * values
+     * @param values array to fill
+     */
+    default void generateInts(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int[] values) {
+
+        for (int i = 0; i < values.length; ++i)
+            values[i] = generateInt(random, status);
+    }
+
+    @Override default Integer generate(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return generateInt(random, status);
+    }
+
+    /**
+     * Gives a generation strategy that produces a random value by having this
+     * strategy produce a random value, then applying the given function to
+     * that value, and returning the result, without boxing either.
+     *
+     * @param mapper function that converts receiver's random values to
+     * result's values
+     * @return a new generation strategy
+     */
+    default IntGen mapToInt(IntUnaryOperator mapper) {
+        return (random, status) -> {
+            int result = generateInt(random, status);
+            status.semiAttempt();
+            return mapper.applyAsInt(result);
+        };
+    }
+
+    /**
+     * Gives a generation strategy that produces a random value by having this
+     * strategy produce a random value, then applying the given function to
+     * that value, and returning the result, without boxing the receiver's
+     * value.
+     *
+     * @param <U> type of values produced by the mapped generation strategy
+     * @param mapper function that converts receiver's random values to
+     * result's values
+     * @return a new generation strategy
+     */
+    default <U> Gen<U> mapToObj(IntFunction<? extends U> mapper) {
+        return (random, status) -> {
+            int result = generateInt(random, status);
+            status.semiAttempt();
+            return mapper.apply(result);
+        };
+    }
+}
@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Represents a strategy for producing objects "smaller than" a given object.
@@ -43,4 +44,22 @@ public interface Shrink<T> {
      * @return objects that are "smaller" than the larger object
      */
     List<T> shrink(SourceOfRandomness random, Object larger);
+
+    /**
+     * <p>Gives some objects that are "smaller" than a given object, as a
+     * stream whose elements are produced only as the shrinking process
+     * asks for them. The shrinking process may stop consuming the stream at
+     * any point.</p>
+     *
+     * <p>Unless overridden, gives the {@linkplain
+     * #shrink(SourceOfRandomness, Object) list of shrinks} as a stream.</p>
+     *
+     * @param random source of randomness to use in shrinking, if desired
+     * @param larger the larger object
+     * @return objects that are "smaller" than the larger object, in the
+     * order in which they should be tried
+     */
+    default Stream<T> shrinkLazily(SourceOfRandomness random, Object larger) {
+        return shrink(random, larger).stream();
+    }
 }
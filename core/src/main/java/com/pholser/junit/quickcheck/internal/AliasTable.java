@@ -0,0 +1,111 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/*
+ * Chooses among weighted items in constant time, by Vose's alias method.
+ * Each item gets a column of equal height, the total of the weights; a
+ * column holds as much of its own item as the item's weight times the
+ * number of items, and its alias fills the rest. Heights are integral, so
+ * the chances are exact.
+ */
+public final class AliasTable<T> {
+    private final Object[] items;
+    private final long total;
+    private final long[] thresholds;
+    private final int[] aliases;
+
+    public AliasTable(Collection<Weighted<T>> weighted) {
+        int size = weighted.size();
+        if (size == 0) {
+            throw new IllegalArgumentException(
+                "Collection is empty, can't pick an element from it");
+        }
+
+        items = new Object[size];
+        thresholds = new long[size];
+        aliases = new int[size];
+
+        long sum = 0;
+        int i = 0;
+        for (Weighted<T> each : weighted) {
+            items[i] = each.item;
+            thresholds[i] = (long) each.weight * size;
+            aliases[i] = i;
+            sum += each.weight;
+            ++i;
+        }
+        total = sum;
+
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (i = 0; i < size; ++i)
+            (thresholds[i] < total ? small : large).push(i);
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+
+            aliases[less] = more;
+            thresholds[more] -= total - thresholds[less];
+            (thresholds[more] < total ? small : large).push(more);
+        }
+
+        /* Whatever is left fills its own column */
+        while (!large.isEmpty())
+            thresholds[large.pop()] = total;
+        while (!small.isEmpty())
+            thresholds[small.pop()] = total;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T choose(SourceOfRandomness random) {
+        if (items.length == 1)
+            return (T) items[0];
+
+        int column = random.nextInt(items.length);
+        if (thresholds[column] == total)
+            return (T) items[column];
+
+        return at(column, random.nextLong(0, total - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    T at(int column, long height) {
+        return height < thresholds[column]
+            ? (T) items[column]
+            : (T) items[aliases[column]];
+    }
+
+    public int size() {
+        return items.length;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A JDK source of randomness that can record the raw draws made from it, and
+ * can replay a sequence of such draws instead of producing random ones.
+ * Every draw from {@link Random} funnels through {@link #next(int)}, so a
+ * recording captures everything a generator chose. Draws not replayed come
+ * from an underlying engine.
+ */
+public class ChoiceTape extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private final Random engine;
+
+    private long[] recorded = new long[16];
+    private int length;
+    private boolean recording;
+
+    private long[] replaying;
+    private int position;
+    private int overrun;
+
+    public ChoiceTape() {
+        this(new Random());
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public ChoiceTape(Random engine) {
+        this.engine = engine;
+    }
+
+    @Override public void setSeed(long seed) {
+        super.setSeed(seed);
+
+        // Random's constructor seeds before the engine is in place.
+        if (engine != null)
+            engine.setSeed(seed);
+    }
+
+    /**
+     * Starts recording draws, forgetting any made before.
+     */
+    public void startRecording() {
+        length = 0;
+        recording = true;
+    }
+
+    /**
+     * Stops recording draws.
+     *
+     * @return the draws made since recording started
+     */
+    public long[] stopRecording() {
+        recording = false;
+        return Arrays.copyOf(recorded, length);
+    }
+
+    /**
+     * Starts answering draws from the given ones, recording those actually
+     * used. Draws past the end of the given ones answer zero, up to a limit
+     * beyond which a draw raises {@link Overrun}.
+     *
+     * @param draws draws to answer with
+     * @param limit how many draws past the given ones to allow
+     */
+    public void startReplaying(long[] draws, int limit) {
+        replaying = draws.clone();
+        position = 0;
+        overrun = limit;
+        startRecording();
+    }
+
+    @Override protected int next(int bits) {
+        long draw;
+        if (replaying == null) {
+            draw = (engine.nextInt() & 0xFFFFFFFFL) >>> (32 - bits);
+        } else if (position < replaying.length) {
+            draw = replaying[position++] & mask(bits);
+        } else if (overrun-- > 0) {
+            draw = 0;
+        } else {
+            throw new Overrun();
+        }
+
+        if (recording)
+            record(draw);
+
+        return (int) draw;
+    }
+
+    private void record(long draw) {
+        if (length == recorded.length)
+            recorded = Arrays.copyOf(recorded, length * 2);
+
+        recorded[length++] = draw;
+    }
+
+    private static long mask(int bits) {
+        return (1L << bits) - 1;
+    }
+
+    /**
+     * Raised when replaying needs more draws than it was allowed.
+     */
+    public static class Overrun extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Overrun() {
+            super(null, null, false, false);
+        }
+    }
+}
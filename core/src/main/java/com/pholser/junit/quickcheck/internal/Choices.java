@@ -0,0 +1,138 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.util.stream.StreamSupport.stream;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The draws a generator made from a {@link ChoiceTape} to produce a value,
+ * and the number of generation attempts made when it did so. Shrinking the
+ * draws and replaying them through the same generator gives "smaller"
+ * values, whether or not the generator knows how to shrink them itself.
+ */
+public final class Choices {
+    private final long[] draws;
+    private final int attempts;
+
+    public Choices(long[] draws, int attempts) {
+        this.draws = draws.clone();
+        this.attempts = attempts;
+    }
+
+    public long[] draws() {
+        return draws.clone();
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    public int length() {
+        return draws.length;
+    }
+
+    /*
+     * Gives simpler sequences of draws, simplest first: with runs of draws
+     * deleted, with runs of draws zeroed, and then with single draws
+     * lowered. Each is built only when asked for.
+     */
+    public Stream<Choices> shrinks() {
+        if (draws.length == 0)
+            return Stream.empty();
+
+        Stream<long[]> deletions =
+            stream(halving(draws.length).spliterator(), false)
+                .map(this::deletions)
+                .reduce(Stream.empty(), Stream::concat);
+        Stream<long[]> zeroings =
+            stream(halving(draws.length).spliterator(), false)
+                .map(this::zeroings)
+                .reduce(Stream.empty(), Stream::concat);
+
+        return Stream.of(deletions, zeroings, lowerings())
+            .reduce(Stream.empty(), Stream::concat)
+            .map(d -> new Choices(d, attempts));
+    }
+
+    /*
+     * Shorter sequences are simpler; of equal length, the lexicographically
+     * lesser one is.
+     */
+    public boolean simplerThan(Choices other) {
+        if (draws.length != other.draws.length)
+            return draws.length < other.draws.length;
+
+        for (int i = 0; i < draws.length; ++i) {
+            if (draws[i] != other.draws[i])
+                return draws[i] < other.draws[i];
+        }
+
+        return false;
+    }
+
+    private Stream<long[]> deletions(int howMany) {
+        return IntStream.range(0, draws.length / howMany)
+            .mapToObj(i -> {
+                long[] shorter = new long[draws.length - howMany];
+                System.arraycopy(draws, 0, shorter, 0, i * howMany);
+                System.arraycopy(
+                    draws,
+                    (i + 1) * howMany,
+                    shorter,
+                    i * howMany,
+                    draws.length - (i + 1) * howMany);
+                return shorter;
+            });
+    }
+
+    private Stream<long[]> zeroings(int howMany) {
+        return IntStream.range(0, draws.length / howMany)
+            .filter(i -> IntStream.range(i * howMany, (i + 1) * howMany)
+                .anyMatch(j -> draws[j] != 0))
+            .mapToObj(i -> {
+                long[] zeroed = draws.clone();
+                Arrays.fill(zeroed, i * howMany, (i + 1) * howMany, 0);
+                return zeroed;
+            });
+    }
+
+    private Stream<long[]> lowerings() {
+        return IntStream.range(0, draws.length)
+            .filter(i -> draws[i] > 1)
+            .boxed()
+            .flatMap(i -> Stream.of(draws[i] / 2, draws[i] - 1).distinct()
+                .map(lower -> {
+                    long[] lowered = draws.clone();
+                    lowered[i] = lower;
+                    return lowered;
+                }));
+    }
+}
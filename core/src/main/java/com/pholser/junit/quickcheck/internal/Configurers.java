@@ -0,0 +1,173 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static com.pholser.junit.quickcheck.internal.Reflection.allAnnotations;
+import static com.pholser.junit.quickcheck.internal.Reflection.invoke;
+import static com.pholser.junit.quickcheck.internal.Reflection.nonSystemAnnotations;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.generator.GeneratorConfiguration;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Finding a generator's configure method for an annotation type, and the
+ * configuration annotations an annotation type carries as meta-annotations,
+ * takes reflection; both are cached here, by class, so that nothing cached
+ * outlives the class loader it came from.
+ */
+public final class Configurers {
+    private static final Configurer NONE = new Configurer(null, null);
+
+    private static final ClassValue<Map<Class<?>, Configurer>> CONFIGURERS =
+        new ClassValue<Map<Class<?>, Configurer>>() {
+            @Override protected Map<Class<?>, Configurer> computeValue(
+                Class<?> type) {
+
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private static final ClassValue<List<Annotation>> META_CONFIGURATIONS =
+        new ClassValue<List<Annotation>>() {
+            @Override protected List<Annotation> computeValue(Class<?> type) {
+                return configurations(allAnnotations(type));
+            }
+        };
+
+    private Configurers() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Map<Class<? extends Annotation>, Annotation>
+        configurationAnnotations(AnnotatedElement element) {
+
+        if (element == null)
+            return emptyMap();
+
+        List<Annotation> present = nonSystemAnnotations(element);
+        if (present.isEmpty())
+            return emptyMap();
+
+        Map<Class<? extends Annotation>, Annotation> byType = new HashMap<>();
+        for (Annotation each : present) {
+            if (isConfiguration(each))
+                byType.put(each.annotationType(), each);
+            for (Annotation meta :
+                META_CONFIGURATIONS.get(each.annotationType())) {
+
+                byType.put(meta.annotationType(), meta);
+            }
+        }
+
+        return byType;
+    }
+
+    public static boolean configure(
+        Object generator,
+        Class<? extends Annotation> annotationType,
+        Annotation configuration) {
+
+        Configurer configurer =
+            CONFIGURERS.get(generator.getClass()).computeIfAbsent(
+                annotationType,
+                t -> find(generator.getClass(), annotationType));
+        if (configurer == NONE)
+            return false;
+
+        configurer.configure(generator, configuration);
+        return true;
+    }
+
+    private static List<Annotation> configurations(
+        List<Annotation> annotations) {
+
+        return annotations.stream()
+            .filter(Configurers::isConfiguration)
+            .collect(toList());
+    }
+
+    private static boolean isConfiguration(Annotation annotation) {
+        return annotation.annotationType()
+            .isAnnotationPresent(GeneratorConfiguration.class);
+    }
+
+    private static Configurer find(
+        Class<?> generatorType,
+        Class<? extends Annotation> annotationType) {
+
+        Method method;
+        try {
+            method = generatorType.getMethod("configure", annotationType);
+        } catch (NoSuchMethodException ex) {
+            return NONE;
+        }
+
+        try {
+            return new Configurer(
+                MethodHandles.publicLookup().unreflect(method)
+                    .asType(
+                        methodType(void.class, Object.class, Annotation.class)),
+                null);
+        } catch (IllegalAccessException ex) {
+            // leave it to reflective invocation to report
+            return new Configurer(null, method);
+        }
+    }
+
+    private static final class Configurer {
+        private final MethodHandle handle;
+        private final Method method;
+
+        Configurer(MethodHandle handle, Method method) {
+            this.handle = handle;
+            this.method = method;
+        }
+
+        void configure(Object generator, Annotation configuration) {
+            if (handle == null) {
+                invoke(method, generator, configuration);
+                return;
+            }
+
+            try {
+                handle.invokeExact(generator, configuration);
+            } catch (Throwable ex) {
+                throw new ReflectionException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.lang.String.format;
+
+import java.util.function.IntPredicate;
+
+/*
+ * Generates values distinct from each other, giving up once a long enough
+ * run of duplicates suggests that the domain of values is exhausted.
+ */
+public final class DistinctValues {
+    private DistinctValues() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Makes attempts to add a distinct value until {@code size} values have
+     * been added, or until {@linkplain #maxDuplicatesInARow(int) too many
+     * attempts in a row} fail.
+     *
+     * @param size how many distinct values are wanted
+     * @param minimum the fewest distinct values that will do if the domain
+     * of values runs out
+     * @param attempt given how many values have been added so far, makes a
+     * value and adds it if it is distinct, answering whether it did
+     * @return how many distinct values were added
+     * @throws ExhaustedException if fewer than {@code minimum} distinct
+     * values could be added
+     */
+    public static int fill(int size, int minimum, IntPredicate attempt) {
+        int limit = maxDuplicatesInARow(size);
+
+        int added = 0;
+        for (int duplicates = 0; added < size;) {
+            if (attempt.test(added)) {
+                ++added;
+                duplicates = 0;
+            } else if (++duplicates > limit) {
+                if (added >= minimum)
+                    break;
+
+                throw new ExhaustedException(size, minimum, added, limit);
+            }
+        }
+
+        return added;
+    }
+
+    /*
+     * A domain of exactly size values needs, for its last value, a run of
+     * about size duplicates on average; runs twenty times that long are
+     * vanishingly unlikely unless the domain is smaller than size.
+     */
+    static int maxDuplicatesInARow(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, 100L + 20L * size);
+    }
+
+    public static class ExhaustedException extends RuntimeException {
+        static final String MESSAGE_TEMPLATE =
+            "Wanted %d distinct values, and at least %d; gave up with %d"
+                + " after %d duplicates in a row. Are there fewer distinct"
+                + " values to generate than that?";
+
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        ExhaustedException(int size, int minimum, int added, int limit) {
+            super(format(MESSAGE_TEMPLATE, size, minimum, added, limit));
+        }
+    }
+}
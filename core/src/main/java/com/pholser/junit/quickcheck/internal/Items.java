@@ -62,20 +62,6 @@ public final class Items {
         Collection<Weighted<T>> items,
         SourceOfRandomness random) {
 
-        if (items.size() == 1)
-            return items.iterator().next().item;
-
-        int range = items.stream().mapToInt(i -> i.weight).sum();
-        int sample = random.nextInt(range);
-
-        int threshold = 0;
-        for (Weighted<T> each : items) {
-            threshold += each.weight;
-            if (sample < threshold)
-                return each.item;
-        }
-
-        throw new AssertionError(
-            String.format("sample = %d, range = %d", sample, range));
+        return new AliasTable<>(items).choose(random);
     }
 }
@@ -25,8 +25,8 @@
 
 package com.pholser.junit.quickcheck.internal;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
+import static com.pholser.junit.quickcheck.internal.Sequences.concatenating;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.generator.Shrink;
@@ -34,6 +34,8 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public final class Lists {
     private Lists() {
@@ -41,31 +43,32 @@ public final class Lists {
     }
 
     public static <T> List<List<T>> removeFrom(List<T> target, int howMany) {
+        return removeFromLazily(target, howMany).collect(toList());
+    }
+
+    /*
+     * Gives the lists that result from removing each successive run of
+     * howMany items from the target, building each one only when asked for.
+     */
+    public static <T> Stream<List<T>> removeFromLazily(
+        List<T> target,
+        int howMany) {
+
         if (howMany < 0) {
             throw new IllegalArgumentException(
                 "Can't remove " + howMany + " elements from a list");
         }
         if (howMany == 0)
-            return singletonList(target);
-        if (howMany > target.size())
-            return emptyList();
-
-        List<T> left = target.subList(0, howMany);
-        List<T> right = target.subList(howMany, target.size());
-        if (right.isEmpty())
-            return singletonList(emptyList());
-
-        List<List<T>> removals = new ArrayList<>();
-        removals.add(right);
-        removals.addAll(removeFrom(right, howMany)
-            .stream()
-            .map(r -> {
-                List<T> items = new ArrayList<>(left);
-                items.addAll(r);
+            return Stream.of(target);
+
+        return IntStream.range(0, target.size() / howMany)
+            .mapToObj(i -> {
+                List<T> items = new ArrayList<>(target.size() - howMany);
+                items.addAll(target.subList(0, i * howMany));
+                items.addAll(
+                    target.subList((i + 1) * howMany, target.size()));
                 return items;
-            })
-            .collect(toList()));
-        return removals;
+            });
     }
 
     public static <T> List<List<T>> shrinksOfOneItem(
@@ -73,35 +76,28 @@ public final class Lists {
         List<T> target,
         Shrink<T> shrink) {
 
-        if (target.isEmpty())
-            return new ArrayList<>();
+        return shrinksOfOneItemLazily(random, target, shrink)
+            .collect(toCollection(ArrayList::new));
+    }
 
-        T head = target.get(0);
-        List<T> tail = target.subList(1, target.size());
+    /*
+     * Gives the lists that result from replacing one item of the target with
+     * one of its shrinks, first item first, shrinking each item and building
+     * each list only when asked for.
+     */
+    public static <T> Stream<List<T>> shrinksOfOneItemLazily(
+        SourceOfRandomness random,
+        List<T> target,
+        Shrink<T> shrink) {
 
-        List<List<T>> shrinks = new ArrayList<>();
-        shrinks.addAll(
-            shrink.shrink(random, head)
-                .stream()
-                .map(i -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(i);
-                    items.addAll(tail);
-                    return items;
-                })
-                .collect(toList()));
-        shrinks.addAll(
-            shrinksOfOneItem(random, tail, shrink)
-                .stream()
+        return concatenating(
+            target.size(),
+            i -> shrink.shrinkLazily(random, target.get(i))
                 .map(s -> {
-                    List<T> items = new ArrayList<>();
-                    items.add(head);
-                    items.addAll(s);
+                    List<T> items = new ArrayList<>(target);
+                    items.set(i, s);
                     return items;
-                })
-                .collect(toList()));
-
-        return shrinks;
+                }));
     }
 
     public static <T> boolean isDistinct(List<T> target) {
@@ -0,0 +1,90 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+/*
+ * An open-addressing set of longs, for checking primitive values for
+ * duplicates without boxing them.
+ */
+public final class LongHashSet {
+    private long[] keys;
+    private boolean[] used;
+    private int size;
+
+    public LongHashSet(int expected) {
+        int capacity = 8;
+        while (capacity < expected * 2)
+            capacity <<= 1;
+
+        keys = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    public boolean add(long key) {
+        if (insert(keys, used, key)) {
+            if (++size * 2 > keys.length)
+                grow();
+            return true;
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] newKeys = new long[keys.length * 2];
+        boolean[] newUsed = new boolean[used.length * 2];
+        for (int i = 0; i < keys.length; ++i) {
+            if (used[i])
+                insert(newKeys, newUsed, keys[i]);
+        }
+
+        keys = newKeys;
+        used = newUsed;
+    }
+
+    private static boolean insert(long[] keys, boolean[] used, long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key)
+                return false;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        used[slot] = true;
+        return true;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
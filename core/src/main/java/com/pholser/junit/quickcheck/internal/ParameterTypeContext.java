@@ -377,6 +377,10 @@ public class ParameterTypeContext {
         return resolved.isArray();
     }
 
+    public org.javaruntype.type.Type<?> resolvedType() {
+        return resolved;
+    }
+
     public Class<?> getRawClass() {
         return resolved.getRawClass();
     }
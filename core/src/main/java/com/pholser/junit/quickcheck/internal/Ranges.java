@@ -27,11 +27,14 @@ package com.pholser.junit.quickcheck.internal;
 
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigInteger;
 
 public final class Ranges {
+    private static final long NANOS_PER_SECOND = SECONDS.toNanos(1);
+
     public enum Type {
         CHARACTER("c"),
         INTEGRAL("d"),
@@ -81,47 +84,134 @@ public final class Ranges {
     public static long choose(SourceOfRandomness random, long min, long max) {
         checkRange(INTEGRAL, min, max);
 
-        /* There are some edges cases with integer overflows, for instance,
-           when (max - min) exceeds Long.MAX_VALUE. These cases should be
-           relatively rare under the assumption that choosing
-           [Long.MIN_VALUE, Long.MAX_VALUE] can be simplified to choosing any
-           random long. Thus, the optimization here only deals with the common
-           situation that no overflows are possible (maybe the heuristic to
-           detect that could be improved).
+        /* Lemire's multiply-high method: scale a random word by the size of
+           the range, rejecting the few words that would bias the result.
+           The size is taken as unsigned, so no range overflows; a size of
+           zero means the range covers every long.
          */
-        boolean noOverflowIssues =
-            max < ((long) 1 << 62) && min > -(((long) 1) << 62);
-
-        if (noOverflowIssues) {
-            // fast path: use long computations
-            long range = (max - min) + 1;
-            long mask = findNextPowerOfTwoLong(range) - 1;
-
-            // loop to avoid distribution bias (as would be the case
-            // with modulo division)
-            long generated;
-            do {
-                generated = Math.abs(random.nextLong()) & mask;
-            } while (generated >= range);
-
-            return generated + min;
+        long size = max - min + 1;
+        if (size == 0)
+            return random.nextLong();
+        if (Long.compareUnsigned(size, 1L << 32) <= 0)
+            return min + chooseBelow32(random, size);
+        return min + chooseBelow64(random, size);
+    }
+
+    public static void choose(
+        SourceOfRandomness random,
+        int[] values,
+        int min,
+        int max) {
+
+        checkRange(INTEGRAL, min, max);
+
+        long size = (long) max - min + 1;
+        for (int i = 0; i < values.length; ++i)
+            values[i] = (int) (min + chooseBelow32(random, size));
+    }
+
+    public static void choose(
+        SourceOfRandomness random,
+        long[] values,
+        long min,
+        long max) {
+
+        checkRange(INTEGRAL, min, max);
+
+        long size = max - min + 1;
+        if (size == 0) {
+            for (int i = 0; i < values.length; ++i)
+                values[i] = random.nextLong();
+        } else if (Long.compareUnsigned(size, 1L << 32) <= 0) {
+            for (int i = 0; i < values.length; ++i)
+                values[i] = min + chooseBelow32(random, size);
         } else {
-            // slow path: fall back to BigInteger to avoid any surprises
-            return choose(
-                random,
-                BigInteger.valueOf(min),
-                BigInteger.valueOf(max))
-                .longValue();
+            for (int i = 0; i < values.length; ++i)
+                values[i] = min + chooseBelow64(random, size);
         }
     }
 
-    static long findNextPowerOfTwoLong(long positiveLong) {
-        return isPowerOfTwoLong(positiveLong)
-            ? positiveLong
-            : ((long) 1) << (64 - Long.numberOfLeadingZeros(positiveLong));
+    public static <T> T choose(
+        SourceOfRandomness random,
+        long minSeconds,
+        long minNanos,
+        long maxSeconds,
+        long maxNanos,
+        Moment<T> moment) {
+
+        long secondsSpan = maxSeconds - minSeconds;
+        if (secondsSpan >= 0
+            && secondsSpan < Long.MAX_VALUE / NANOS_PER_SECOND - 1) {
+
+            long nanos =
+                minNanos
+                    + choose(
+                        random,
+                        0,
+                        secondsSpan * NANOS_PER_SECOND + maxNanos - minNanos);
+            return moment.of(
+                minSeconds + nanos / NANOS_PER_SECOND,
+                nanos % NANOS_PER_SECOND);
+        }
+
+        /* Too many nanoseconds for a long. Choose seconds and nanos
+           independently, rejecting the ends of the first and last seconds
+           that lie outside the interval; with a span this wide, rejection
+           is vanishingly rare.
+         */
+        long seconds;
+        long nanos;
+        do {
+            seconds = choose(random, minSeconds, maxSeconds);
+            nanos = chooseBelow32(random, NANOS_PER_SECOND);
+        } while ((seconds == minSeconds && nanos < minNanos)
+            || (seconds == maxSeconds && nanos > maxNanos));
+
+        return moment.of(seconds, nanos);
+    }
+
+    /* Both of these scale the complement of each draw, and complement the
+       result: small draws then give small values, and a zero draw is never
+       rejected, so simplifying recorded draws simplifies values.
+     */
+    private static long chooseBelow32(SourceOfRandomness random, long size) {
+        long product = (~random.nextInt() & 0xFFFFFFFFL) * size;
+        if ((product & 0xFFFFFFFFL) < size) {
+            long threshold = (1L << 32) % size;
+            while ((product & 0xFFFFFFFFL) < threshold)
+                product = (~random.nextInt() & 0xFFFFFFFFL) * size;
+        }
+
+        return size - 1 - (product >>> 32);
+    }
+
+    private static long chooseBelow64(SourceOfRandomness random, long size) {
+        long draw = ~random.nextLong();
+        if (Long.compareUnsigned(draw * size, size) < 0) {
+            long threshold = Long.remainderUnsigned(-size, size);
+            while (Long.compareUnsigned(draw * size, threshold) < 0)
+                draw = ~random.nextLong();
+        }
+
+        return size - 1 - unsignedMultiplyHigh(draw, size);
+    }
+
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xFFFFFFFFL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xFFFFFFFFL;
+        long y1 = y >>> 32;
+
+        long cross0 = x1 * y0;
+        long cross1 = x0 * y1;
+        long carry =
+            ((x0 * y0) >>> 32) + (cross0 & 0xFFFFFFFFL) + (cross1 & 0xFFFFFFFFL);
+
+        return x1 * y1 + (cross0 >>> 32) + (cross1 >>> 32) + (carry >>> 32);
     }
 
-    private static boolean isPowerOfTwoLong(long positiveLong) {
-        return (positiveLong & (positiveLong - 1)) == 0;
+    @FunctionalInterface
+    public interface Moment<T> {
+        T of(long seconds, long nanos);
     }
 }
@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.internal;
 
+import static java.lang.invoke.MethodType.methodType;
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.security.AccessController.doPrivileged;
 import static java.util.Arrays.asList;
@@ -34,6 +35,8 @@ import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedParameterizedType;
@@ -51,6 +54,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -71,6 +75,16 @@ public final class Reflection {
         PRIMITIVES.put(Short.TYPE, Short.class);
     }
 
+    private static final ClassValue<Optional<MethodHandle>>
+        NO_ARG_CONSTRUCTORS =
+            new ClassValue<Optional<MethodHandle>>() {
+                @Override protected Optional<MethodHandle> computeValue(
+                    Class<?> type) {
+
+                    return noArgConstructor(type);
+                }
+            };
+
     private Reflection() {
         throw new UnsupportedOperationException();
     }
@@ -119,10 +133,40 @@ public final class Reflection {
 
     @SuppressFBWarnings("REFLC_REFLECTION_MAY_INCREASE_ACCESSIBILITY_OF_CLASS")
     public static <T> T instantiate(Class<T> clazz) {
+        Optional<MethodHandle> ctor = NO_ARG_CONSTRUCTORS.get(clazz);
+        if (!ctor.isPresent()) {
+            try {
+                return clazz.newInstance();
+            } catch (Exception ex) {
+                throw reflectionException(ex);
+            }
+        }
+
         try {
-            return clazz.newInstance();
-        } catch (Exception ex) {
-            throw reflectionException(ex);
+            return clazz.cast((Object) ctor.get().invokeExact());
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    /*
+     * Handles to public no-arg constructors of public concrete classes.
+     * Others are left to Class.newInstance(), which reports why they cannot
+     * be instantiated.
+     */
+    private static Optional<MethodHandle> noArgConstructor(Class<?> clazz) {
+        if (isAbstract(clazz.getModifiers()) || clazz.isArray())
+            return Optional.empty();
+
+        try {
+            return Optional.of(
+                MethodHandles.publicLookup()
+                    .findConstructor(clazz, methodType(void.class))
+                    .asType(methodType(Object.class)));
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            return Optional.empty();
         }
     }
 
@@ -310,7 +354,7 @@ public final class Reflection {
         return new ReflectionException(ex);
     }
 
-    private static List<Annotation> nonSystemAnnotations(AnnotatedElement e) {
+    static List<Annotation> nonSystemAnnotations(AnnotatedElement e) {
         return stream(e.getAnnotations())
             .filter(a ->
                 !a.annotationType().getName().startsWith(
@@ -0,0 +1,131 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.nio.charset.Charset;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/*
+ * Tables of the values in the JDK's registries of zones, charsets, locales,
+ * time zones and currencies. Each is resolved from its registry once, when
+ * first asked for, and in a stable order, so that the same draws give the
+ * same values.
+ */
+public final class Registries {
+    private Registries() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Table<ZoneId> zoneIds() {
+        return ZoneIds.TABLE;
+    }
+
+    public static Table<Charset> charsets() {
+        return Charsets.TABLE;
+    }
+
+    public static Table<Locale> locales() {
+        return Locales.TABLE;
+    }
+
+    /*
+     * Time zones are mutable; copy the ones chosen from this table before
+     * handing them out.
+     */
+    public static Table<TimeZone> timeZones() {
+        return TimeZones.TABLE;
+    }
+
+    public static Table<Currency> currencies() {
+        return Currencies.TABLE;
+    }
+
+    public static final class Table<T> {
+        private final Object[] values;
+
+        Table(Collection<? extends T> values) {
+            this.values = values.toArray();
+        }
+
+        @SuppressWarnings("unchecked")
+        public T choose(SourceOfRandomness random) {
+            return (T) values[random.nextInt(values.length)];
+        }
+
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) values[index];
+        }
+
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static final class ZoneIds {
+        static final Table<ZoneId> TABLE =
+            new Table<>(
+                ZoneId.getAvailableZoneIds().stream()
+                    .sorted()
+                    .map(ZoneId::of)
+                    .collect(toList()));
+    }
+
+    private static final class Charsets {
+        static final Table<Charset> TABLE =
+            new Table<>(Charset.availableCharsets().values());
+    }
+
+    private static final class Locales {
+        static final Table<Locale> TABLE =
+            new Table<>(Arrays.asList(Locale.getAvailableLocales()));
+    }
+
+    private static final class TimeZones {
+        static final Table<TimeZone> TABLE =
+            new Table<>(
+                Arrays.stream(TimeZone.getAvailableIDs())
+                    .map(TimeZone::getTimeZone)
+                    .collect(toList()));
+    }
+
+    private static final class Currencies {
+        static final Table<Currency> TABLE =
+            new Table<>(
+                Currency.getAvailableCurrencies().stream()
+                    .sorted(comparing(Currency::getCurrencyCode))
+                    .collect(toList()));
+    }
+}
@@ -32,12 +32,26 @@ public final class SeededValue {
     private final PropertyParameterGenerationContext p;
     private final Object value;
     private final long seed;
+    private final Choices choices;
 
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public SeededValue(PropertyParameterGenerationContext p) {
         this.p = p;
         this.value = p.generate();
         this.seed = p.effectiveSeed();
+        this.choices = p.lastChoices();
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public SeededValue(
+        PropertyParameterGenerationContext p,
+        Object value,
+        Choices choices) {
+
+        this.p = p;
+        this.value = value;
+        this.seed = p.effectiveSeed();
+        this.choices = choices;
     }
 
     @SuppressFBWarnings("EI_EXPOSE_REP")
@@ -53,6 +67,10 @@ public final class SeededValue {
         return seed;
     }
 
+    public Choices choices() {
+        return choices;
+    }
+
     @Override public String toString() {
         return String.format("%s = [%s], seed = %d", p.name(), value, seed);
     }
@@ -26,11 +26,17 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static java.math.RoundingMode.HALF_UP;
+import static java.util.Collections.emptyIterator;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public final class Sequences {
     private Sequences() {
@@ -55,6 +61,23 @@ public final class Sequences {
         return () -> new IntegerHalvingIterator(start);
     }
 
+    /*
+     * Concatenates the streams given for 0 through count - 1, asking for
+     * each only once the ones before it are used up. Unlike flatMap, this
+     * does not build a whole stream's elements when asked for its first;
+     * unlike a reduction by Stream.concat, it does not nest count deep.
+     */
+    public static <T> Stream<T> concatenating(
+        int count,
+        IntFunction<? extends Stream<? extends T>> streamAt) {
+
+        return StreamSupport.stream(
+            spliteratorUnknownSize(
+                new ConcatenatingIterator<T>(count, streamAt),
+                ORDERED),
+            false);
+    }
+
     private static final class BigIntegerHalvingIterator
         implements Iterator<BigInteger> {
 
@@ -149,4 +172,40 @@ public final class Sequences {
             return next / 2;
         }
     }
+
+    private static final class ConcatenatingIterator<T>
+        implements Iterator<T> {
+
+        private final int count;
+        private final IntFunction<? extends Stream<? extends T>> streamAt;
+
+        private int index;
+        private Iterator<? extends T> current = emptyIterator();
+
+        ConcatenatingIterator(
+            int count,
+            IntFunction<? extends Stream<? extends T>> streamAt) {
+
+            this.count = count;
+            this.streamAt = streamAt;
+        }
+
+        @Override public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (index >= count)
+                    return false;
+
+                current = streamAt.apply(index++).iterator();
+            }
+
+            return true;
+        }
+
+        @Override public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return current.next();
+        }
+    }
 }
@@ -33,6 +33,8 @@ public class ShrinkControl {
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
+    private final boolean shrinkChoices;
     private final MinimalCounterexampleHook onMinimalCounterexample;
 
     public ShrinkControl(Property marker)
@@ -42,6 +44,8 @@ public class ShrinkControl {
         this.maxShrinks = marker.maxShrinks();
         this.maxShrinkDepth = marker.maxShrinkDepth();
         this.maxShrinkTime = marker.maxShrinkTime();
+        this.shrinkParallelism = marker.shrinkParallelism();
+        this.shrinkChoices = marker.shrink() && marker.shrinkChoices();
         this.onMinimalCounterexample =
             marker.onMinimalCounterexample().newInstance();
     }
@@ -62,6 +66,14 @@ public class ShrinkControl {
         return maxShrinkTime;
     }
 
+    public int shrinkParallelism() {
+        return shrinkParallelism;
+    }
+
+    public boolean shrinkChoices() {
+        return shrinkChoices;
+    }
+
     public MinimalCounterexampleHook onMinimalCounterexample() {
         return onMinimalCounterexample;
     }
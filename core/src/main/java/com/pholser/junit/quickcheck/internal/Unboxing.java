@@ -0,0 +1,87 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import com.pholser.junit.quickcheck.generator.DoubleGen;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.IntGen;
+import com.pholser.junit.quickcheck.generator.LongGen;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+public final class Unboxing {
+    private static final ClassValue<Boolean> UNBOXES =
+        new ClassValue<Boolean>() {
+            @Override protected Boolean computeValue(Class<?> type) {
+                return unboxes(type);
+            }
+        };
+
+    private Unboxing() {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Tells whether the given generator's unboxed methods may stand in for
+     * its generate(). That holds unless a subclass overrides generate()
+     * below the class that gives the unboxed single-value method, as when
+     * customizing IntegerGenerator by overriding generate() alone.
+     */
+    public static boolean unboxes(Generator<?> generator) {
+        return UNBOXES.get(generator.getClass());
+    }
+
+    private static boolean unboxes(Class<?> type) {
+        String unboxed;
+        if (IntGen.class.isAssignableFrom(type))
+            unboxed = "generateInt";
+        else if (LongGen.class.isAssignableFrom(type))
+            unboxed = "generateLong";
+        else if (DoubleGen.class.isAssignableFrom(type))
+            unboxed = "generateDouble";
+        else
+            return false;
+
+        try {
+            Class<?> boxedAt =
+                type.getMethod(
+                    "generate",
+                    SourceOfRandomness.class,
+                    GenerationStatus.class)
+                    .getDeclaringClass();
+            Class<?> unboxedAt =
+                type.getMethod(
+                    unboxed,
+                    SourceOfRandomness.class,
+                    GenerationStatus.class)
+                    .getDeclaringClass();
+
+            return boxedAt.isAssignableFrom(unboxedAt);
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import static java.math.BigDecimal.ONE;
+
+import com.pholser.junit.quickcheck.generator.Bounds;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import ognl.ASTAnd;
+import ognl.ASTChain;
+import ognl.ASTConst;
+import ognl.ASTMethod;
+import ognl.ASTNegate;
+import ognl.ASTProperty;
+import ognl.ASTVarRef;
+import ognl.ComparisonExpression;
+import ognl.Node;
+import ognl.Ognl;
+import ognl.OgnlException;
+
+/*
+ * Finds the bounds that a constraint implies on values, or on their lengths
+ * or sizes, from comparisons of #_, #_.length(), #_.size(), #_.length or
+ * #_.size with numeric constants, alone or joined by &&. Other parts of a
+ * conjunction are taken to allow anything, so the bounds may be looser than
+ * the constraint, but never tighter.
+ */
+public final class ConstraintBounds {
+    private static final String VARIABLE = "#_";
+
+    private static final Map<String, Bounds> ANALYZED =
+        new ConcurrentHashMap<>();
+
+    private ConstraintBounds() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Bounds of(String expression) {
+        return expression == null
+            ? Bounds.none()
+            : ANALYZED.computeIfAbsent(expression, ConstraintBounds::analyze);
+    }
+
+    private static Bounds analyze(String expression) {
+        try {
+            return bounds(
+                (Node) Ognl.parseExpression(expression),
+                Bounds.none());
+        } catch (OgnlException ex) {
+            // ConstraintEvaluator reports malformed constraints
+            return Bounds.none();
+        }
+    }
+
+    private static Bounds bounds(Node node, Bounds found) {
+        if (node instanceof ASTAnd) {
+            Bounds narrowed = found;
+            for (int i = 0; i < node.jjtGetNumChildren(); ++i)
+                narrowed = bounds(node.jjtGetChild(i), narrowed);
+            return narrowed;
+        }
+        if (node instanceof ComparisonExpression
+            && node.jjtGetNumChildren() == 2) {
+
+            return comparison((ComparisonExpression) node, found);
+        }
+
+        return found;
+    }
+
+    private static Bounds comparison(
+        ComparisonExpression node,
+        Bounds found) {
+
+        Relation relation = Relation.of(node.getComparisonFunction());
+        if (relation == null)
+            return found;
+
+        Node subject = node.jjtGetChild(0);
+        BigDecimal constant = constant(node.jjtGetChild(1));
+        if (constant == null) {
+            subject = node.jjtGetChild(1);
+            constant = constant(node.jjtGetChild(0));
+            relation = relation.flipped();
+        }
+        if (constant == null)
+            return found;
+
+        if (isVariable(subject))
+            return relation.bound(found, constant);
+        if (isSizeOfVariable(subject))
+            return relation.boundSize(found, constant);
+        return found;
+    }
+
+    private static BigDecimal constant(Node node) {
+        if (node instanceof ASTNegate && node.jjtGetNumChildren() == 1) {
+            BigDecimal negated = constant(node.jjtGetChild(0));
+            return negated == null ? null : negated.negate();
+        }
+        if (!(node instanceof ASTConst))
+            return null;
+
+        Object value = ((ASTConst) node).getValue();
+        if (!(value instanceof Number))
+            return null;
+
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException ex) {
+            // NaN or infinite
+            return null;
+        }
+    }
+
+    private static boolean isVariable(Node node) {
+        return node instanceof ASTVarRef && VARIABLE.equals(node.toString());
+    }
+
+    private static boolean isSizeOfVariable(Node node) {
+        if (!(node instanceof ASTChain) || node.jjtGetNumChildren() != 2)
+            return false;
+        if (!isVariable(node.jjtGetChild(0)))
+            return false;
+
+        Node size = node.jjtGetChild(1);
+        if (size instanceof ASTMethod) {
+            String name = ((ASTMethod) size).getMethodName();
+            return size.jjtGetNumChildren() == 0
+                && ("length".equals(name) || "size".equals(name));
+        }
+        if (size instanceof ASTProperty
+            && !((ASTProperty) size).isIndexedAccess()
+            && size.jjtGetNumChildren() == 1
+            && size.jjtGetChild(0) instanceof ASTConst) {
+
+            Object name = ((ASTConst) size.jjtGetChild(0)).getValue();
+            return "length".equals(name) || "size".equals(name);
+        }
+        return false;
+    }
+
+    private enum Relation {
+        LESS {
+            @Override Bounds bound(Bounds found, BigDecimal constant) {
+                return found.atMost(constant, false);
+            }
+
+            @Override Bounds boundSize(Bounds found, BigDecimal constant) {
+                return found.sizeAtMost(
+                    size(constant.subtract(ONE), RoundingMode.CEILING));
+            }
+
+            @Override Relation flipped() {
+                return GREATER;
+            }
+        },
+        LESS_OR_EQUAL {
+            @Override Bounds bound(Bounds found, BigDecimal constant) {
+                return found.atMost(constant, true);
+            }
+
+            @Override Bounds boundSize(Bounds found, BigDecimal constant) {
+                return found.sizeAtMost(size(constant, RoundingMode.FLOOR));
+            }
+
+            @Override Relation flipped() {
+                return GREATER_OR_EQUAL;
+            }
+        },
+        GREATER {
+            @Override Bounds bound(Bounds found, BigDecimal constant) {
+                return found.atLeast(constant, false);
+            }
+
+            @Override Bounds boundSize(Bounds found, BigDecimal constant) {
+                return found.sizeAtLeast(
+                    size(constant.add(ONE), RoundingMode.FLOOR));
+            }
+
+            @Override Relation flipped() {
+                return LESS;
+            }
+        },
+        GREATER_OR_EQUAL {
+            @Override Bounds bound(Bounds found, BigDecimal constant) {
+                return found.atLeast(constant, true);
+            }
+
+            @Override Bounds boundSize(Bounds found, BigDecimal constant) {
+                return found.sizeAtLeast(
+                    size(constant, RoundingMode.CEILING));
+            }
+
+            @Override Relation flipped() {
+                return LESS_OR_EQUAL;
+            }
+        },
+        EQUAL {
+            @Override Bounds bound(Bounds found, BigDecimal constant) {
+                return found.atLeast(constant, true).atMost(constant, true);
+            }
+
+            @Override Bounds boundSize(Bounds found, BigDecimal constant) {
+                return found.sizeAtLeast(size(constant, RoundingMode.CEILING))
+                    .sizeAtMost(size(constant, RoundingMode.FLOOR));
+            }
+
+            @Override Relation flipped() {
+                return EQUAL;
+            }
+        };
+
+        abstract Bounds bound(Bounds found, BigDecimal constant);
+
+        abstract Bounds boundSize(Bounds found, BigDecimal constant);
+
+        abstract Relation flipped();
+
+        /*
+         * Not every comparison node class is public; they are told apart by
+         * the OgnlOps function they compile to.
+         */
+        static Relation of(String comparisonFunction) {
+            switch (comparisonFunction) {
+                case "ognl.OgnlOps.less":
+                    return LESS;
+                case "!ognl.OgnlOps.greater":
+                    return LESS_OR_EQUAL;
+                case "ognl.OgnlOps.greater":
+                    return GREATER;
+                case "!ognl.OgnlOps.less":
+                    return GREATER_OR_EQUAL;
+                case "ognl.OgnlOps.equal":
+                    return EQUAL;
+                default:
+                    return null;
+            }
+        }
+
+        /*
+         * Sizes beyond int's range are saturated; sizes are never negative,
+         * so a negative bound from below bounds nothing, and one from above
+         * leaves no sizes at all.
+         */
+        private static int size(BigDecimal constant, RoundingMode rounding) {
+            BigInteger whole = constant.setScale(0, rounding).toBigInteger();
+            if (whole.bitLength() < Integer.SIZE)
+                return Math.max(whole.intValue(), -1);
+            return whole.signum() < 0 ? -1 : Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import ognl.ASTAdd;
+import ognl.ASTAnd;
+import ognl.ASTConst;
+import ognl.ASTDivide;
+import ognl.ASTMultiply;
+import ognl.ASTNegate;
+import ognl.ASTNot;
+import ognl.ASTOr;
+import ognl.ASTRemainder;
+import ognl.ASTSubtract;
+import ognl.ASTTest;
+import ognl.ASTVarRef;
+import ognl.ComparisonExpression;
+import ognl.Node;
+import ognl.OgnlOps;
+
+/*
+ * Compiles a parsed OGNL expression into a function of the value bound to
+ * #_, when the expression uses only constants, #_, and the logical,
+ * comparison, conditional and arithmetic operators. Operators apply OgnlOps,
+ * as OGNL's own interpreter does, so compiled expressions give the same
+ * results -- without a fresh OGNL context, variable lookups and tree walk
+ * for every value.
+ */
+final class ConstraintCompiler {
+    private static final String VARIABLE = "#_";
+
+    private ConstraintCompiler() {
+        throw new UnsupportedOperationException();
+    }
+
+    /*
+     * Gives null for expressions using anything else, which are left to
+     * OGNL.
+     */
+    static Function<Object, Object> compile(Node node) {
+        if (node instanceof ASTConst) {
+            Object constant = ((ASTConst) node).getValue();
+            return v -> constant;
+        }
+        if (node instanceof ASTVarRef)
+            return VARIABLE.equals(node.toString()) ? v -> v : null;
+
+        List<Function<Object, Object>> operands = operands(node);
+        if (operands.isEmpty() || operands.contains(null))
+            return null;
+
+        if (node instanceof ASTAnd)
+            return and(operands);
+        if (node instanceof ASTOr)
+            return or(operands);
+
+        Function<Object, Object> first = operands.get(0);
+        if (node instanceof ASTNot)
+            return v -> bool(!OgnlOps.booleanValue(first.apply(v)));
+        if (node instanceof ASTTest && operands.size() == 3) {
+            Function<Object, Object> then = operands.get(1);
+            Function<Object, Object> otherwise = operands.get(2);
+            return v -> OgnlOps.booleanValue(first.apply(v))
+                ? then.apply(v)
+                : otherwise.apply(v);
+        }
+        if (node instanceof ASTNegate)
+            return v -> OgnlOps.negate(first.apply(v));
+
+        if (node instanceof ASTAdd)
+            return fold(operands, OgnlOps::add);
+        if (node instanceof ASTMultiply)
+            return fold(operands, OgnlOps::multiply);
+        if (operands.size() != 2)
+            return null;
+
+        Function<Object, Object> left = first;
+        Function<Object, Object> right = operands.get(1);
+        if (node instanceof ASTSubtract)
+            return v -> OgnlOps.subtract(left.apply(v), right.apply(v));
+        if (node instanceof ASTDivide)
+            return v -> OgnlOps.divide(left.apply(v), right.apply(v));
+        if (node instanceof ASTRemainder)
+            return v -> OgnlOps.remainder(left.apply(v), right.apply(v));
+        if (node instanceof ComparisonExpression) {
+            BiPredicate<Object, Object> comparison =
+                comparison((ComparisonExpression) node);
+            return comparison == null
+                ? null
+                : v -> bool(comparison.test(left.apply(v), right.apply(v)));
+        }
+
+        return null;
+    }
+
+    /*
+     * Not every comparison node class is public; they are told apart by
+     * the OgnlOps function they compile to.
+     */
+    private static BiPredicate<Object, Object> comparison(
+        ComparisonExpression node) {
+
+        switch (node.getComparisonFunction()) {
+            case "ognl.OgnlOps.equal":
+                return OgnlOps::equal;
+            case "!ognl.OgnlOps.equal":
+                return (a, b) -> !OgnlOps.equal(a, b);
+            case "ognl.OgnlOps.less":
+                return OgnlOps::less;
+            case "!ognl.OgnlOps.greater":
+                return (a, b) -> !OgnlOps.greater(a, b);
+            case "ognl.OgnlOps.greater":
+                return OgnlOps::greater;
+            case "!ognl.OgnlOps.less":
+                return (a, b) -> !OgnlOps.less(a, b);
+            default:
+                return null;
+        }
+    }
+
+    private static List<Function<Object, Object>> operands(Node node) {
+        int count = node.jjtGetNumChildren();
+        List<Function<Object, Object>> operands = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i)
+            operands.add(compile(node.jjtGetChild(i)));
+        return operands;
+    }
+
+    private static Function<Object, Object> and(
+        List<Function<Object, Object>> operands) {
+
+        return v -> {
+            Object result = null;
+            for (Function<Object, Object> each : operands) {
+                result = each.apply(v);
+                if (!OgnlOps.booleanValue(result))
+                    break;
+            }
+            return result;
+        };
+    }
+
+    private static Function<Object, Object> or(
+        List<Function<Object, Object>> operands) {
+
+        return v -> {
+            Object result = null;
+            for (Function<Object, Object> each : operands) {
+                result = each.apply(v);
+                if (OgnlOps.booleanValue(result))
+                    break;
+            }
+            return result;
+        };
+    }
+
+    private static Function<Object, Object> fold(
+        List<Function<Object, Object>> operands,
+        BinaryOperator<Object> operator) {
+
+        return v -> {
+            Object result = operands.get(0).apply(v);
+            for (int i = 1; i < operands.size(); ++i)
+                result = operator.apply(result, operands.get(i).apply(v));
+            return result;
+        };
+    }
+
+    private static Boolean bool(boolean b) {
+        return b ? Boolean.TRUE : Boolean.FALSE;
+    }
+}
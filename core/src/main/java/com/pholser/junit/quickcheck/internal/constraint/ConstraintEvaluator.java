@@ -25,27 +25,44 @@
 
 package com.pholser.junit.quickcheck.internal.constraint;
 
-import ognl.Ognl;
-import ognl.OgnlException;
-
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import ognl.Node;
+import ognl.Ognl;
+import ognl.OgnlException;
 
 public class ConstraintEvaluator {
+    private static final Map<String, Function<Object, Object>> COMPILED =
+        new ConcurrentHashMap<>();
+
+    private final Function<Object, Object> compiled;
     private final Object constraint;
     private final Map<Object, Object> bindings;
+    private Object value;
 
     public ConstraintEvaluator(String expression) {
-        try {
-            constraint =
-                expression == null ? null : Ognl.parseExpression(expression);
-            bindings = new EvalMap();
-        } catch (OgnlException ex) {
-            throw new EvaluationException(ex);
+        Function<Object, Object> cached =
+            expression == null ? null : COMPILED.get(expression);
+
+        if (expression == null || cached != null) {
+            compiled = cached;
+            constraint = null;
+        } else {
+            Node parsed = parse(expression);
+            compiled = ConstraintCompiler.compile(parsed);
+            if (compiled != null)
+                COMPILED.putIfAbsent(expression, compiled);
+            constraint = compiled == null ? parsed : null;
         }
+        bindings = constraint == null ? null : new EvalMap();
     }
 
     public boolean evaluate() {
+        if (compiled != null)
+            return (Boolean) compiled.apply(value);
+
         try {
             return constraint == null
                 || (Boolean) Ognl.getValue(constraint, bindings, (Object) null);
@@ -55,7 +72,22 @@ public class ConstraintEvaluator {
     }
 
     public void bind(Object value) {
-        bindings.put("_", value);
+        if (bindings == null)
+            this.value = value;
+        else
+            bindings.put("_", value);
+    }
+
+    public boolean compiled() {
+        return compiled != null;
+    }
+
+    private static Node parse(String expression) {
+        try {
+            return (Node) Ognl.parseExpression(expression);
+        } catch (OgnlException ex) {
+            throw new EvaluationException(ex);
+        }
     }
 
     public static class EvaluationException extends RuntimeException {
@@ -0,0 +1,394 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static com.pholser.junit.quickcheck.internal.Unboxing.unboxes;
+
+import com.pholser.junit.quickcheck.generator.DoubleGen;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.IntGen;
+import com.pholser.junit.quickcheck.generator.LongGen;
+import com.pholser.junit.quickcheck.internal.LongHashSet;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.lang.reflect.Array;
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+ * Typed access to the elements of arrays of one component type, so that
+ * arrays of primitives are generated, shrunk and checked for duplicates
+ * without reflection or boxing where possible.
+ */
+abstract class ArrayElements {
+    static ArrayElements of(Class<?> componentType) {
+        if (componentType == int.class)
+            return new Ints();
+        if (componentType == long.class)
+            return new Longs();
+        if (componentType == double.class)
+            return new Doubles();
+        if (componentType == float.class)
+            return new Floats();
+        if (componentType == short.class)
+            return new Shorts();
+        if (componentType == byte.class)
+            return new Bytes();
+        if (componentType == char.class)
+            return new Chars();
+        if (componentType == boolean.class)
+            return new Booleans();
+        return new References(componentType);
+    }
+
+    abstract Object newArray(int length);
+
+    abstract Object get(Object array, int index);
+
+    abstract void set(Object array, int index, Object value);
+
+    void generate(
+        Object array,
+        int index,
+        Generator<?> component,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        set(array, index, component.generate(random, status));
+    }
+
+    void generateAll(
+        Object array,
+        Generator<?> component,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        for (int i = 0, length = Array.getLength(array); i < length; ++i)
+            generate(array, i, component, random, status);
+    }
+
+    Seen seen(int expected) {
+        LongHashSet keys = new LongHashSet(expected);
+        return (array, index) -> keys.add(key(array, index));
+    }
+
+    Object removeRun(Object array, int start, int howMany) {
+        int length = Array.getLength(array);
+        Object smaller = newArray(length - howMany);
+        System.arraycopy(array, 0, smaller, 0, start);
+        System.arraycopy(
+            array,
+            start + howMany,
+            smaller,
+            start,
+            length - start - howMany);
+        return smaller;
+    }
+
+    boolean isDistinct(Object array) {
+        int length = Array.getLength(array);
+        Seen seen = seen(length);
+        for (int i = 0; i < length; ++i) {
+            if (!seen.add(array, i))
+                return false;
+        }
+
+        return true;
+    }
+
+    /* Distinguishes primitive elements as Object.equals on their boxes does */
+    abstract long key(Object array, int index);
+
+    interface Seen {
+        boolean add(Object array, int index);
+    }
+
+    private static final class Ints extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new int[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((int[]) array)[index] = (Integer) value;
+        }
+
+        @Override void generate(
+            Object array,
+            int index,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof IntGen && unboxes(component)) {
+                ((int[]) array)[index] =
+                    ((IntGen) component).generateInt(random, status);
+            } else {
+                super.generate(array, index, component, random, status);
+            }
+        }
+
+        @Override void generateAll(
+            Object array,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof IntGen && unboxes(component)) {
+                ((IntGen) component).generateInts(
+                    random,
+                    status,
+                    (int[]) array);
+            } else {
+                super.generateAll(array, component, random, status);
+            }
+        }
+
+        @Override long key(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+    }
+
+    private static final class Longs extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new long[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((long[]) array)[index] = (Long) value;
+        }
+
+        @Override void generate(
+            Object array,
+            int index,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof LongGen && unboxes(component)) {
+                ((long[]) array)[index] =
+                    ((LongGen) component).generateLong(random, status);
+            } else {
+                super.generate(array, index, component, random, status);
+            }
+        }
+
+        @Override void generateAll(
+            Object array,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof LongGen && unboxes(component)) {
+                ((LongGen) component).generateLongs(
+                    random,
+                    status,
+                    (long[]) array);
+            } else {
+                super.generateAll(array, component, random, status);
+            }
+        }
+
+        @Override long key(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+    }
+
+    private static final class Doubles extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new double[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((double[]) array)[index] = (Double) value;
+        }
+
+        @Override void generate(
+            Object array,
+            int index,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof DoubleGen && unboxes(component)) {
+                ((double[]) array)[index] =
+                    ((DoubleGen) component).generateDouble(random, status);
+            } else {
+                super.generate(array, index, component, random, status);
+            }
+        }
+
+        @Override void generateAll(
+            Object array,
+            Generator<?> component,
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            if (component instanceof DoubleGen && unboxes(component)) {
+                ((DoubleGen) component).generateDoubles(
+                    random,
+                    status,
+                    (double[]) array);
+            } else {
+                super.generateAll(array, component, random, status);
+            }
+        }
+
+        @Override long key(Object array, int index) {
+            return Double.doubleToLongBits(((double[]) array)[index]);
+        }
+    }
+
+    private static final class Floats extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new float[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((float[]) array)[index] = (Float) value;
+        }
+
+        @Override long key(Object array, int index) {
+            return Float.floatToIntBits(((float[]) array)[index]);
+        }
+    }
+
+    private static final class Shorts extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new short[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((short[]) array)[index] = (Short) value;
+        }
+
+        @Override long key(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+    }
+
+    private static final class Bytes extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new byte[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((byte[]) array)[index] = (Byte) value;
+        }
+
+        @Override long key(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+    }
+
+    private static final class Chars extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new char[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((char[]) array)[index] = (Character) value;
+        }
+
+        @Override long key(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+    }
+
+    private static final class Booleans extends ArrayElements {
+        @Override Object newArray(int length) {
+            return new boolean[length];
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((boolean[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((boolean[]) array)[index] = (Boolean) value;
+        }
+
+        @Override long key(Object array, int index) {
+            return ((boolean[]) array)[index] ? 1 : 0;
+        }
+    }
+
+    private static final class References extends ArrayElements {
+        private final Class<?> componentType;
+
+        References(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override Object newArray(int length) {
+            return Array.newInstance(componentType, length);
+        }
+
+        @Override Object get(Object array, int index) {
+            return ((Object[]) array)[index];
+        }
+
+        @Override void set(Object array, int index, Object value) {
+            ((Object[]) array)[index] = value;
+        }
+
+        @Override Seen seen(int expected) {
+            Set<Object> elements = new HashSet<>();
+            return (array, index) -> elements.add(get(array, index));
+        }
+
+        @Override long key(Object array, int index) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -25,30 +25,29 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.DistinctValues.fill;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.annotatedComponentTypes;
+import static com.pholser.junit.quickcheck.internal.Sequences.concatenating;
 import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Generators;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
-import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -56,8 +55,11 @@ import java.util.stream.Stream;
 public class ArrayGenerator extends Generator<Object> {
     private final Class<?> componentType;
     private final Generator<?> component;
+    private final ArrayElements elements;
 
     private Size lengthRange;
+    private int leastLength;
+    private int mostLength = Integer.MAX_VALUE;
     private boolean distinct;
 
     ArrayGenerator(Class<?> componentType, Generator<?> component) {
@@ -65,6 +67,7 @@ public class ArrayGenerator extends Generator<Object> {
 
         this.componentType = componentType;
         this.component = component;
+        this.elements = ArrayElements.of(componentType);
     }
 
     /**
@@ -94,21 +97,22 @@ public class ArrayGenerator extends Generator<Object> {
         GenerationStatus status) {
 
         int length = length(random, status);
-        Object array = Array.newInstance(componentType, length);
+        Object array = elements.newArray(length);
 
-        Stream<?> items =
-            Stream.generate(() -> component.generate(random, status))
-                .sequential();
-        if (distinct) {
-            items = items.distinct();
+        if (!distinct) {
+            elements.generateAll(array, component, random, status);
+            return array;
         }
 
-        Iterator<?> iterator = items.iterator();
-        for (int i = 0; i < length; ++i) {
-            Array.set(array, i, iterator.next());
-        }
+        ArrayElements.Seen seen = elements.seen(length);
+        int added = fill(length, minimumLength(), i -> {
+            elements.generate(array, i, component, random, status);
+            return seen.add(array, i);
+        });
 
-        return array;
+        return added == length
+            ? array
+            : elements.removeRun(array, added, length - added);
     }
 
     @Override public boolean canShrink(Object larger) {
@@ -119,29 +123,20 @@ public class ArrayGenerator extends Generator<Object> {
         SourceOfRandomness random,
         Object larger) {
 
-        int length = Array.getLength(larger);
-        List<Object> asList = new ArrayList<>();
-        for (int i = 0; i < length; ++i) {
-            asList.add(Array.get(larger, i));
-        }
-
-        List<Object> shrinks = new ArrayList<>(removals(asList));
+        return doShrinkLazily(random, larger).collect(toList());
+    }
 
-        @SuppressWarnings("unchecked")
-        Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, (Shrink<Object>) component)
-                .stream();
-        if (distinct) {
-            oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
-        }
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
 
-        shrinks.addAll(
-            oneItemShrinks
-                .map(this::convert)
-                .filter(this::inLengthRange)
-                .collect(toList()));
+        Stream<Object> oneItemShrinks = shrinksOfOneItem(random, larger);
+        if (distinct)
+            oneItemShrinks = oneItemShrinks.filter(elements::isDistinct);
 
-        return shrinks;
+        return Stream.concat(
+            removals(larger),
+            oneItemShrinks.filter(this::inLengthRange));
     }
 
     @Override public void provide(Generators provided) {
@@ -157,7 +152,7 @@ public class ArrayGenerator extends Generator<Object> {
 
         BigDecimal elementsMagnitude =
             IntStream.range(0, length)
-                .mapToObj(i -> component.magnitude(Array.get(value, i)))
+                .mapToObj(i -> component.magnitude(elements.get(value, i)))
                 .reduce(ZERO, BigDecimal::add);
         return BigDecimal.valueOf(length).multiply(elementsMagnitude);
     }
@@ -171,32 +166,74 @@ public class ArrayGenerator extends Generator<Object> {
         }
     }
 
+    @Override public void constrain(Bounds bounds) {
+        int least = bounds.narrowMinSize(minimumLength());
+        int most = bounds.narrowMaxSize(maximumLength());
+        if (least <= most) {
+            leastLength = least;
+            mostLength = most;
+        }
+    }
+
+    private int minimumLength() {
+        return lengthRange == null
+            ? leastLength
+            : max(leastLength, lengthRange.min());
+    }
+
+    private int maximumLength() {
+        return lengthRange == null
+            ? mostLength
+            : min(mostLength, lengthRange.max());
+    }
+
     private int length(SourceOfRandomness random, GenerationStatus status) {
         return lengthRange != null
-            ? random.nextInt(lengthRange.min(), lengthRange.max())
-            : status.size();
+            ? random.nextInt(minimumLength(), maximumLength())
+            : min(max(status.size(), leastLength), mostLength);
     }
 
     private boolean inLengthRange(Object items) {
-        int length = Array.getLength(items);
-        return lengthRange == null
-            || (length >= lengthRange.min() && length <= lengthRange.max());
+        return inLengthRange(Array.getLength(items));
     }
 
-    private List<Object> removals(List<?> items) {
-        return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .filter(this::inLengthRange)
-            .collect(toList());
+    private boolean inLengthRange(int length) {
+        return length >= minimumLength() && length <= maximumLength();
     }
 
-    private Object convert(List<?> items) {
-        Object array = Array.newInstance(componentType, items.size());
-        for (int i = 0; i < items.size(); ++i) {
-            Array.set(array, i, items.get(i));
-        }
-        return array;
+    private Stream<Object> removals(Object larger) {
+        int length = Array.getLength(larger);
+
+        return stream(halving(length).spliterator(), false)
+            .filter(howMany -> inLengthRange(length - howMany))
+            .map(howMany -> removals(larger, length, howMany))
+            .reduce(Stream.empty(), Stream::concat);
+    }
+
+    private Stream<Object> removals(Object larger, int length, int howMany) {
+        return howMany == 0
+            ? Stream.of(larger)
+            : IntStream.range(0, length / howMany)
+                .mapToObj(i ->
+                    elements.removeRun(larger, i * howMany, howMany));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<Object> shrinksOfOneItem(
+        SourceOfRandomness random,
+        Object larger) {
+
+        int length = Array.getLength(larger);
+        Shrink<Object> shrink = (Shrink<Object>) component;
+
+        return concatenating(
+            length,
+            i -> shrink.shrinkLazily(random, elements.get(larger, i))
+                .map(s -> {
+                    Object smaller = elements.newArray(length);
+                    System.arraycopy(larger, 0, smaller, 0, length);
+                    elements.set(smaller, i, s);
+                    return smaller;
+                }));
     }
 }
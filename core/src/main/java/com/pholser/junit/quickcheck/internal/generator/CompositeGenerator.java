@@ -27,56 +27,72 @@ package com.pholser.junit.quickcheck.internal.generator;
 
 import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.GeneratorConfigurationException;
 import com.pholser.junit.quickcheck.generator.Generators;
-import com.pholser.junit.quickcheck.internal.Items;
+import com.pholser.junit.quickcheck.internal.AliasTable;
 import com.pholser.junit.quickcheck.internal.Weighted;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 public class CompositeGenerator extends Generator<Object> {
     private final List<Weighted<Generator<?>>> composed;
+    private final Map<BitSet, AliasTable<Generator<?>>> shrinkers =
+        new ConcurrentHashMap<>();
+
+    private AliasTable<Generator<?>> choices;
 
     CompositeGenerator(List<Weighted<Generator<?>>> composed) {
         super(Object.class);
 
         this.composed = new ArrayList<>(composed);
+        this.choices = new AliasTable<>(this.composed);
     }
 
     @Override public Object generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        Generator<?> choice = Items.chooseWeighted(composed, random);
+        Generator<?> choice = choices.choose(random);
         return choice.generate(random, status);
     }
 
     @Override public boolean canShrink(Object larger) {
-        return composed.stream()
-            .map(w -> w.item)
-            .anyMatch(g -> g.canShrink(larger));
+        for (Weighted<Generator<?>> each : composed) {
+            if (each.item.canShrink(larger))
+                return true;
+        }
+
+        return false;
     }
 
     @Override public List<Object> doShrink(
         SourceOfRandomness random,
         Object larger) {
 
-        List<Weighted<Generator<?>>> shrinkers =
-            composed.stream()
-                .filter(w -> w.item.canShrink(larger))
-                .collect(toList());
-
-        Generator<?> choice = Items.chooseWeighted(shrinkers, random);
+        Generator<?> choice = shrinkersOf(larger).choose(random);
         return new ArrayList<>(choice.shrink(random, larger));
     }
 
+    @Override public Stream<Object> doShrinkLazily(
+        SourceOfRandomness random,
+        Object larger) {
+
+        Generator<?> choice = shrinkersOf(larger).choose(random);
+        return choice.shrinkLazily(random, larger).map(Object.class::cast);
+    }
+
     Generator<?> composed(int index) {
         return composed.get(index).item;
     }
@@ -93,12 +109,13 @@ public class CompositeGenerator extends Generator<Object> {
     }
 
     @Override public BigDecimal magnitude(Object value) {
-        List<Weighted<Generator<?>>> shrinkers =
-            composed.stream()
-                .filter(w -> w.item.canShrink(value))
-                .collect(toList());
+        for (Weighted<Generator<?>> each : composed) {
+            if (each.item.canShrink(value))
+                return each.item.magnitude(value);
+        }
 
-        return shrinkers.get(0).item.magnitude(value);
+        throw new IndexOutOfBoundsException(
+            "No composed generator can shrink " + value);
     }
 
     @Override public void configure(AnnotatedType annotatedType) {
@@ -133,6 +150,11 @@ public class CompositeGenerator extends Generator<Object> {
         installCandidates(candidates, element);
     }
 
+    @Override public void constrain(Bounds bounds) {
+        for (Weighted<Generator<?>> each : composed)
+            each.item.constrain(bounds);
+    }
+
     @Override public void addComponentGenerators(List<Generator<?>> newComponents) {
         for (Weighted<Generator<?>> each : composed) {
             each.item.addComponentGenerators(newComponents);
@@ -154,6 +176,25 @@ public class CompositeGenerator extends Generator<Object> {
 
         composed.clear();
         composed.addAll(candidates);
+        choices = new AliasTable<>(composed);
+        shrinkers.clear();
+    }
+
+    /*
+     * Whether a generator can shrink a value may depend on more than the
+     * value's type, so the choices are cached by which generators can.
+     */
+    private AliasTable<Generator<?>> shrinkersOf(Object larger) {
+        BitSet capable = new BitSet(composed.size());
+        for (int i = 0; i < composed.size(); ++i) {
+            if (composed.get(i).item.canShrink(larger))
+                capable.set(i);
+        }
+
+        return shrinkers.computeIfAbsent(
+            capable,
+            c -> new AliasTable<>(
+                c.stream().mapToObj(composed::get).collect(toList())));
     }
 
     private String candidateGeneratorDescriptions() {
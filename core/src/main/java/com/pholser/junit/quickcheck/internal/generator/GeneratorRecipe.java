@@ -0,0 +1,256 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Weighted;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * How the repository resolved a generator for a parameter, as a tree of
+ * prototypes and the generators built around them. Making a generator from
+ * a recipe copies the prototypes afresh, so one recipe can serve every
+ * parameter of the same shape; only recipes whose resolution drew nothing
+ * from the repository's source of randomness are reusable.
+ */
+abstract class GeneratorRecipe {
+    private final boolean reusable;
+
+    private GeneratorRecipe(boolean reusable) {
+        this.reusable = reusable;
+    }
+
+    static GeneratorRecipe prototype(Generator<?> prototype) {
+        return new Prototype(prototype);
+    }
+
+    static GeneratorRecipe explicit(Generator<?> generator) {
+        return new Explicit(generator);
+    }
+
+    static GeneratorRecipe enumOf(Class<?> enumType) {
+        return new OfEnum(enumType);
+    }
+
+    static GeneratorRecipe markerInterface(Class<?> markerType) {
+        return new OfMarkerInterface(markerType);
+    }
+
+    static GeneratorRecipe lambda(
+        Class<?> lambdaType,
+        GeneratorRecipe returnValue) {
+
+        return new OfLambda(lambdaType, returnValue);
+    }
+
+    static GeneratorRecipe array(
+        Class<?> componentType,
+        GeneratorRecipe component) {
+
+        return new OfArray(componentType, component);
+    }
+
+    static GeneratorRecipe composite(
+        List<Weighted<GeneratorRecipe>> matches,
+        List<GeneratorRecipe> components,
+        GeneratorRecipe zilch,
+        boolean drewAtRandom) {
+
+        return new Composite(matches, components, zilch, drewAtRandom);
+    }
+
+    boolean reusable() {
+        return reusable;
+    }
+
+    boolean hasComponents() {
+        return false;
+    }
+
+    abstract Generator<?> make();
+
+    private static final class Prototype extends GeneratorRecipe {
+        private final Generator<?> prototype;
+
+        Prototype(Generator<?> prototype) {
+            super(true);
+
+            this.prototype = prototype;
+        }
+
+        @Override boolean hasComponents() {
+            return prototype.hasComponents();
+        }
+
+        @Override Generator<?> make() {
+            return prototype.copy();
+        }
+    }
+
+    /*
+     * Generators named by @From may have been made through a constructor
+     * that copy() cannot use, so the generator is handed out as is, and the
+     * recipe is not reused.
+     */
+    private static final class Explicit extends GeneratorRecipe {
+        private final Generator<?> generator;
+
+        Explicit(Generator<?> generator) {
+            super(false);
+
+            this.generator = generator;
+        }
+
+        @Override boolean hasComponents() {
+            return generator.hasComponents();
+        }
+
+        @Override Generator<?> make() {
+            return generator;
+        }
+    }
+
+    private static final class OfEnum extends GeneratorRecipe {
+        private final Class<?> enumType;
+
+        OfEnum(Class<?> enumType) {
+            super(true);
+
+            this.enumType = enumType;
+        }
+
+        @Override Generator<?> make() {
+            return new EnumGenerator(enumType);
+        }
+    }
+
+    private static final class OfMarkerInterface extends GeneratorRecipe {
+        private final Class<?> markerType;
+
+        OfMarkerInterface(Class<?> markerType) {
+            super(true);
+
+            this.markerType = markerType;
+        }
+
+        @Override Generator<?> make() {
+            return new MarkerInterfaceGenerator<>(markerType);
+        }
+    }
+
+    private static final class OfLambda extends GeneratorRecipe {
+        private final Class<?> lambdaType;
+        private final GeneratorRecipe returnValue;
+
+        OfLambda(Class<?> lambdaType, GeneratorRecipe returnValue) {
+            super(returnValue.reusable());
+
+            this.lambdaType = lambdaType;
+            this.returnValue = returnValue;
+        }
+
+        @Override Generator<?> make() {
+            return new LambdaGenerator<>(lambdaType, returnValue.make());
+        }
+    }
+
+    private static final class OfArray extends GeneratorRecipe {
+        private final Class<?> componentType;
+        private final GeneratorRecipe component;
+
+        OfArray(Class<?> componentType, GeneratorRecipe component) {
+            super(component.reusable());
+
+            this.componentType = componentType;
+            this.component = component;
+        }
+
+        @Override Generator<?> make() {
+            return new ArrayGenerator(componentType, component.make());
+        }
+    }
+
+    private static final class Composite extends GeneratorRecipe {
+        private final List<Weighted<GeneratorRecipe>> matches;
+        private final List<GeneratorRecipe> components;
+        private final GeneratorRecipe zilch;
+
+        Composite(
+            List<Weighted<GeneratorRecipe>> matches,
+            List<GeneratorRecipe> components,
+            GeneratorRecipe zilch,
+            boolean drewAtRandom) {
+
+            super(!drewAtRandom
+                && matches.stream().allMatch(m -> m.item.reusable())
+                && components.stream().allMatch(GeneratorRecipe::reusable)
+                && (zilch == null || zilch.reusable()));
+
+            this.matches = matches;
+            this.components = components;
+            this.zilch = zilch;
+        }
+
+        @Override Generator<?> make() {
+            List<Generator<?>> forComponents =
+                components.stream()
+                    .map(GeneratorRecipe::make)
+                    .collect(toList());
+
+            List<Weighted<Generator<?>>> made = new ArrayList<>();
+            for (Weighted<GeneratorRecipe> each : matches) {
+                Generator<?> generator = each.item.make();
+                applyComponentGenerators(generator, forComponents);
+                made.add(new Weighted<>(generator, each.weight));
+            }
+
+            return made.size() == 1
+                ? made.get(0).item
+                : new CompositeGenerator(made);
+        }
+
+        private void applyComponentGenerators(
+            Generator<?> generator,
+            List<Generator<?>> forComponents) {
+
+            if (!generator.hasComponents())
+                return;
+
+            if (forComponents.isEmpty()) {
+                generator.addComponentGenerators(
+                    nCopies(
+                        generator.numberOfNeededComponents(),
+                        zilch.make()));
+            } else {
+                generator.addComponentGenerators(forComponents);
+            }
+        }
+    }
+}
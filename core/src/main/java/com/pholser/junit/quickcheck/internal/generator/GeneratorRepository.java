@@ -32,6 +32,7 @@ import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.internal.Reflection.isMarkerInterface;
 import static com.pholser.junit.quickcheck.internal.Reflection.singleAbstractMethodOf;
 import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -42,6 +43,7 @@ import com.pholser.junit.quickcheck.internal.Weighted;
 import com.pholser.junit.quickcheck.internal.Zilch;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -57,7 +59,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
+import org.javaruntype.type.SuperTypeParameter;
 import org.javaruntype.type.TypeParameter;
 
 public class GeneratorRepository implements Generators {
@@ -69,32 +74,73 @@ public class GeneratorRepository implements Generators {
                 .collect(toSet()));
 
     private final SourceOfRandomness random;
-    private final Map<Class<?>, Set<Generator<?>>> generators;
+    private Map<Class<?>, Set<Generator<?>>> generators;
+    private Map<ParameterShape, GeneratorRecipe> resolved;
+    private boolean shared;
 
     public GeneratorRepository(SourceOfRandomness random) {
-        this(random, new HashMap<>());
+        this(random, new HashMap<>(), new ConcurrentHashMap<>(), false);
     }
 
     private GeneratorRepository(
         SourceOfRandomness random,
-        Map<Class<?>, Set<Generator<?>>> generators) {
+        Map<Class<?>, Set<Generator<?>>> generators,
+        Map<ParameterShape, GeneratorRecipe> resolved,
+        boolean shared) {
 
         this.random = random;
         this.generators = generators;
+        this.resolved = resolved;
+        this.shared = shared;
+    }
+
+    /**
+     * Gives a repository of the generators that a {@link
+     * ServiceLoaderGeneratorSource} finds via the current thread's context
+     * class loader. They are found and indexed by type once per such loader,
+     * on first use, and the index is shared by every repository made this
+     * way under that loader, as are the resolutions of generators for
+     * parameters of the same shape; registering more generators with one of
+     * them gives it its own copy of the index first.
+     *
+     * @param random source of randomness for the repository
+     * @return a repository of the service-loaded generators
+     */
+    public static GeneratorRepository shared(SourceOfRandomness random) {
+        ServiceLoaded loaded = ServiceLoaded.byContextClassLoader();
+        return new GeneratorRepository(
+            random,
+            loaded.index,
+            loaded.resolved,
+            true);
     }
 
     public GeneratorRepository register(Generator<?> source) {
+        ownIndex();
         registerTypes(source);
         return this;
     }
 
     public GeneratorRepository register(Iterable<Generator<?>> source) {
+        ownIndex();
         for (Generator<?> each : source)
             registerTypes(each);
 
         return this;
     }
 
+    private void ownIndex() {
+        if (shared) {
+            Map<Class<?>, Set<Generator<?>>> copy = new HashMap<>();
+            generators.forEach((k, v) -> copy.put(k, new LinkedHashSet<>(v)));
+            generators = copy;
+            resolved = new ConcurrentHashMap<>();
+            shared = false;
+        } else {
+            resolved.clear();
+        }
+    }
+
     private void registerTypes(Generator<?> generator) {
         for (Class<?> each : generator.types())
             registerHierarchy(each, generator);
@@ -224,7 +270,11 @@ public class GeneratorRepository implements Generators {
     }
 
     @Override public final Generators withRandom(SourceOfRandomness other) {
-        return new GeneratorRepository(other, this.generators);
+        return new GeneratorRepository(
+            other,
+            this.generators,
+            this.resolved,
+            true);
     }
 
     public Generator<?> produceGenerator(ParameterTypeContext parameter) {
@@ -245,29 +295,55 @@ public class GeneratorRepository implements Generators {
     }
 
     public Generator<?> generatorFor(ParameterTypeContext parameter) {
-        if (!parameter.explicitGenerators().isEmpty())
-            return composeWeighted(parameter, parameter.explicitGenerators());
+        return recipeFor(parameter).make();
+    }
+
+    private GeneratorRecipe recipeFor(ParameterTypeContext parameter) {
+        ParameterShape shape = new ParameterShape(parameter);
+
+        GeneratorRecipe recipe = resolved.get(shape);
+        if (recipe == null) {
+            recipe = resolve(parameter);
+            if (recipe.reusable())
+                resolved.putIfAbsent(shape, recipe);
+        }
+
+        return recipe;
+    }
+
+    private GeneratorRecipe resolve(ParameterTypeContext parameter) {
+        if (!parameter.explicitGenerators().isEmpty()) {
+            return composeWeighted(
+                parameter,
+                parameter.explicitGenerators().stream()
+                    .map(w ->
+                        new Weighted<>(
+                            GeneratorRecipe.explicit(w.item),
+                            w.weight))
+                    .collect(toList()),
+                false);
+        }
         if (parameter.isArray())
-            return generatorForArrayType(parameter);
+            return recipeForArrayType(parameter);
         if (parameter.isEnum())
-            return new EnumGenerator(parameter.getRawClass());
+            return GeneratorRecipe.enumOf(parameter.getRawClass());
 
         return compose(parameter, matchingGenerators(parameter));
     }
 
-    private Generator<?> generatorForArrayType(
+    private GeneratorRecipe recipeForArrayType(
         ParameterTypeContext parameter) {
 
         ParameterTypeContext component = parameter.arrayComponentContext();
-        return new ArrayGenerator(
+        return GeneratorRecipe.array(
             component.getRawClass(),
-            generatorFor(component));
+            recipeFor(component));
     }
 
-    private List<Generator<?>> matchingGenerators(
+    private List<GeneratorRecipe> matchingGenerators(
         ParameterTypeContext parameter) {
 
-        List<Generator<?>> matches = new ArrayList<>();
+        List<GeneratorRecipe> matches = new ArrayList<>();
 
         if (!hasGeneratorsFor(parameter)) {
             maybeAddGeneratorByNamingConvention(parameter, matches);
@@ -287,7 +363,7 @@ public class GeneratorRepository implements Generators {
 
     private void maybeAddGeneratorByNamingConvention(
         ParameterTypeContext parameter,
-        List<Generator<?>> matches) {
+        List<GeneratorRecipe> matches) {
 
         Class<?> genClass;
         try {
@@ -301,7 +377,7 @@ public class GeneratorRepository implements Generators {
             try {
                 Generator<?> generator = (Generator<?>) genClass.newInstance();
                 if (generator.types().contains(parameter.getRawClass())) {
-                    matches.add(generator);
+                    matches.add(GeneratorRecipe.prototype(generator));
                 }
             } catch (IllegalAccessException | InstantiationException e) {
                 throw new IllegalStateException(
@@ -313,16 +389,16 @@ public class GeneratorRepository implements Generators {
 
     private void maybeAddLambdaGenerator(
         ParameterTypeContext parameter,
-        List<Generator<?>> matches) {
+        List<GeneratorRecipe> matches) {
 
         Method method = singleAbstractMethodOf(parameter.getRawClass());
         if (method != null) {
             ParameterTypeContext returnType =
                 parameter.methodReturnTypeContext(method);
-            Generator<?> returnTypeGenerator = generatorFor(returnType);
+            GeneratorRecipe returnTypeGenerator = recipeFor(returnType);
 
             matches.add(
-                new LambdaGenerator<>(
+                GeneratorRecipe.lambda(
                     parameter.getRawClass(),
                     returnTypeGenerator));
         }
@@ -330,81 +406,70 @@ public class GeneratorRepository implements Generators {
 
     private void maybeAddMarkerInterfaceGenerator(
         ParameterTypeContext parameter,
-        List<Generator<?>> matches) {
+        List<GeneratorRecipe> matches) {
 
         Class<?> rawClass = parameter.getRawClass();
         if (isMarkerInterface(rawClass)) {
             matches.add(
-                new MarkerInterfaceGenerator<>(parameter.getRawClass()));
+                GeneratorRecipe.markerInterface(parameter.getRawClass()));
         }
     }
 
     private void maybeAddGeneratorsFor(
         ParameterTypeContext parameter,
-        List<Generator<?>> matches) {
+        List<GeneratorRecipe> matches) {
 
         List<Generator<?>> candidates = generatorsFor(parameter);
         List<TypeParameter<?>> typeParameters = parameter.getTypeParameters();
 
-        if (typeParameters.isEmpty()) {
-            matches.addAll(candidates);
-        } else {
-            for (Generator<?> each : candidates) {
-                if (each.canGenerateForParametersOfTypes(typeParameters))
-                    matches.add(each);
+        for (Generator<?> each : candidates) {
+            if (typeParameters.isEmpty()
+                || each.canGenerateForParametersOfTypes(typeParameters)) {
+
+                matches.add(GeneratorRecipe.prototype(each));
             }
         }
     }
 
-    private Generator<?> compose(
+    private GeneratorRecipe compose(
         ParameterTypeContext parameter,
-        List<Generator<?>> matches) {
+        List<GeneratorRecipe> matches) {
 
-        List<Weighted<Generator<?>>> weightings =
+        List<Weighted<GeneratorRecipe>> weightings =
             matches.stream()
-                .map(g -> new Weighted<Generator<?>>(g, 1))
+                .map(g -> new Weighted<>(g, 1))
                 .collect(toList());
 
-        return composeWeighted(parameter, weightings);
+        return composeWeighted(
+            parameter,
+            weightings,
+            choosesAtRandom(parameter));
     }
 
-    private Generator<?> composeWeighted(
+    private GeneratorRecipe composeWeighted(
         ParameterTypeContext parameter,
-        List<Weighted<Generator<?>>> matches) {
+        List<Weighted<GeneratorRecipe>> matches,
+        boolean choseAtRandom) {
 
-        List<Generator<?>> forComponents = new ArrayList<>();
+        List<GeneratorRecipe> forComponents = new ArrayList<>();
         for (ParameterTypeContext c : parameter.typeParameterContexts(random))
-            forComponents.add(generatorFor(c));
-
-        for (Weighted<Generator<?>> each : matches)
-            applyComponentGenerators(each.item, forComponents);
-
-        return matches.size() == 1
-            ? matches.get(0).item
-            : new CompositeGenerator(matches);
-    }
-
-    private void applyComponentGenerators(
-        Generator<?> generator,
-        List<Generator<?>> componentGenerators) {
+            forComponents.add(recipeFor(c));
 
-        if (!generator.hasComponents())
-            return;
-
-        if (componentGenerators.isEmpty()) {
-            List<Generator<?>> substitutes = new ArrayList<>();
-            Generator<?> zilch =
-                generatorFor(
+        GeneratorRecipe zilch =
+            forComponents.isEmpty()
+                && matches.stream().anyMatch(m -> m.item.hasComponents())
+                ? recipeFor(
                     ParameterTypeContext.forClass(Zilch.class)
-                        .allowMixedTypes(true));
-            for (int i = 0; i < generator.numberOfNeededComponents(); ++i) {
-                substitutes.add(zilch);
-            }
+                        .allowMixedTypes(true))
+                : null;
 
-            generator.addComponentGenerators(substitutes);
-        } else {
-            generator.addComponentGenerators(componentGenerators);
-        }
+        return GeneratorRecipe.composite(
+            matches,
+            forComponents,
+            zilch,
+            choseAtRandom
+                || parameter.getTypeParameters().stream()
+                    .anyMatch(p -> p instanceof SuperTypeParameter));
     }
 
     private List<Generator<?>> generatorsFor(ParameterTypeContext parameter) {
@@ -416,11 +481,15 @@ public class GeneratorRepository implements Generators {
             matches.add(match);
         }
 
-        List<Generator<?>> copies = new ArrayList<>();
-        for (Generator<?> each : matches) {
-            copies.add(each.copy());
-        }
-        return copies;
+        return new ArrayList<>(matches);
+    }
+
+    private boolean choosesAtRandom(ParameterTypeContext parameter) {
+        Set<Generator<?>> matches = generators.get(parameter.getRawClass());
+
+        return !parameter.allowMixedTypes()
+            && matches != null
+            && matches.size() > 1;
     }
 
     private boolean hasGeneratorsFor(ParameterTypeContext parameter) {
@@ -438,4 +507,45 @@ public class GeneratorRepository implements Generators {
                 .map(Class::getCanonicalName)
                 .anyMatch(NULLABLE_ANNOTATIONS::contains);
     }
+
+    private static final class ServiceLoaded {
+        private static final Map<ClassLoader, SoftReference<ServiceLoaded>>
+            BY_LOADER = new WeakHashMap<>();
+
+        final Map<Class<?>, Set<Generator<?>>> index;
+        final Map<ParameterShape, GeneratorRecipe> resolved =
+            new ConcurrentHashMap<>();
+
+        private ServiceLoaded(ClassLoader loader) {
+            index = index(loader);
+        }
+
+        static synchronized ServiceLoaded byContextClassLoader() {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            if (loader == null)
+                loader = ClassLoader.getSystemClassLoader();
+
+            SoftReference<ServiceLoaded> cached = BY_LOADER.get(loader);
+            ServiceLoaded loaded = cached == null ? null : cached.get();
+            if (loaded == null) {
+                loaded = new ServiceLoaded(loader);
+                BY_LOADER.put(loader, new SoftReference<>(loaded));
+            }
+
+            return loaded;
+        }
+
+        private static Map<Class<?>, Set<Generator<?>>> index(
+            ClassLoader loader) {
+
+            GeneratorRepository repo =
+                new GeneratorRepository(null)
+                    .register(new ServiceLoaderGeneratorSource(loader));
+
+            Map<Class<?>, Set<Generator<?>>> index = new HashMap<>();
+            repo.generators.forEach((k, v) ->
+                index.put(k, unmodifiableSet(new LinkedHashSet<>(v))));
+            return unmodifiableMap(index);
+        }
+    }
 }
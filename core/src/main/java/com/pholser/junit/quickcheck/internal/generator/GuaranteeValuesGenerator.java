@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
@@ -53,4 +54,8 @@ public class GuaranteeValuesGenerator extends Generator<Object> {
             ? guaranteed.generate(random, status)
             : rest.generate(random, status);
     }
+
+    @Override public void constrain(Bounds bounds) {
+        rest.constrain(bounds);
+    }
 }
@@ -26,6 +26,7 @@ package com.pholser.junit.quickcheck.internal.generator;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Generators;
@@ -36,6 +37,7 @@ import java.lang.reflect.AnnotatedType;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.javaruntype.type.TypeParameter;
 
 class NullableGenerator<T> extends Generator<T> {
@@ -93,6 +95,10 @@ class NullableGenerator<T> extends Generator<T> {
         delegate.configure(element);
     }
 
+    @Override public void constrain(Bounds bounds) {
+        delegate.constrain(bounds);
+    }
+
     @Override public void provide(Generators provided) {
         delegate.provide(provided);
     }
@@ -105,6 +111,13 @@ class NullableGenerator<T> extends Generator<T> {
         return delegate.doShrink(random, larger);
     }
 
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
+        return delegate.doShrinkLazily(random, larger);
+    }
+
     @Override public BigDecimal magnitude(Object value) {
         return delegate.magnitude(value);
     }
@@ -0,0 +1,98 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static com.pholser.junit.quickcheck.internal.Reflection.annotatedComponentTypes;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * What the repository's resolution of a generator for a parameter depends
+ * on: its declared and resolved types, whether it allows mixed types, and
+ * the annotations on it and on each of its component types.
+ */
+final class ParameterShape {
+    private final Type type;
+    private final org.javaruntype.type.Type<?> resolved;
+    private final boolean allowMixedTypes;
+    private final List<Object> annotations;
+    private final List<Annotation> elementAnnotations;
+
+    // Element annotations still configure top-level generators, as in
+    // GeneratorRepository.produceGenerator(); they have no other accessor.
+    @SuppressWarnings("deprecation")
+    ParameterShape(ParameterTypeContext parameter) {
+        AnnotatedElement element = parameter.annotatedElement();
+
+        this.type = parameter.type();
+        this.resolved = parameter.resolvedType();
+        this.allowMixedTypes = parameter.allowMixedTypes();
+        this.annotations = annotationsOf(parameter.annotatedType());
+        this.elementAnnotations =
+            element == null ? emptyList() : asList(element.getAnnotations());
+    }
+
+    private static List<Object> annotationsOf(AnnotatedType type) {
+        List<Object> tree = new ArrayList<>();
+        tree.add(asList(type.getAnnotations()));
+        for (AnnotatedType each : annotatedComponentTypes(type))
+            tree.add(annotationsOf(each));
+
+        return tree;
+    }
+
+    @Override public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof ParameterShape))
+            return false;
+
+        ParameterShape other = (ParameterShape) o;
+        return allowMixedTypes == other.allowMixedTypes
+            && type.equals(other.type)
+            && resolved.equals(other.resolved)
+            && annotations.equals(other.annotations)
+            && elementAnnotations.equals(other.elementAnnotations);
+    }
+
+    @Override public int hashCode() {
+        return Objects.hash(
+            type,
+            resolved,
+            allowMixedTypes,
+            annotations,
+            elementAnnotations);
+    }
+}
@@ -30,24 +30,37 @@ import static java.lang.String.format;
 import static java.math.BigDecimal.ZERO;
 import static java.util.Collections.emptyList;
 
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ChoiceTape;
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
+import com.pholser.junit.quickcheck.internal.SeededValue;
+import com.pholser.junit.quickcheck.internal.constraint.ConstraintBounds;
 import com.pholser.junit.quickcheck.internal.constraint.ConstraintEvaluator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public class PropertyParameterGenerationContext
     extends AbstractGenerationStatus {
 
+    private static final int REPLAY_OVERRUN = 64;
+
     private final PropertyParameterContext parameter;
+    private final GeometricDistribution distro;
+    private final ChoiceTape choices;
     private final ConstraintEvaluator evaluator;
     private final Generator<?> generator;
     private final int sampleSize;
 
+    private Choices lastChoices;
+
     private int successfulEvaluations;
     private int discards;
     private int semiAttempts;
@@ -59,43 +72,147 @@ public class PropertyParameterGenerationContext
         SourceOfRandomness random,
         ParameterSampler sampler) {
 
-        super(distro, initializeRandomness(parameter, random));
+        this(parameter, repository, distro, random, sampler, 0);
+    }
+
+    public PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        SourceOfRandomness random,
+        ParameterSampler sampler,
+        int worker) {
+
+        this(parameter, repository, distro, random, null, sampler, worker);
+    }
+
+    public PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        ChoiceTape choices,
+        ParameterSampler sampler,
+        int worker) {
+
+        this(
+            parameter,
+            repository,
+            distro,
+            new SourceOfRandomness(choices),
+            choices,
+            sampler,
+            worker);
+    }
+
+    private PropertyParameterGenerationContext(
+        PropertyParameterContext parameter,
+        GeneratorRepository repository,
+        GeometricDistribution distro,
+        SourceOfRandomness random,
+        ChoiceTape choices,
+        ParameterSampler sampler,
+        int worker) {
+
+        super(distro, initializeRandomness(parameter, random, worker));
 
         this.parameter = parameter;
+        this.distro = distro;
+        this.choices = choices;
         this.evaluator = new ConstraintEvaluator(parameter.constraint());
         this.generator =
             sampler.decideGenerator(repository, parameter.typeContext());
+        this.generator.constrain(ConstraintBounds.of(parameter.constraint()));
         this.sampleSize = sampler.sizeFactor(parameter.typeContext());
     }
 
     private static SourceOfRandomness initializeRandomness(
         PropertyParameterContext p,
-        SourceOfRandomness r) {
+        SourceOfRandomness r,
+        int worker) {
 
         if (p.fixedSeed())
-            r.setSeed(p.seed());
+            r.setSeed(worker == 0 ? p.seed() : workerSeed(p.seed(), worker));
 
         return r;
     }
 
+    private static long workerSeed(long seed, int worker) {
+        // SplitMix64 finalizer, so neighboring workers get unrelated streams
+        long z = seed + worker * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
     public Object generate() {
         Object nextValue;
 
-        for (nextValue = generator.generate(random(), this);
-            !evaluate(nextValue);) {
-
-            nextValue = generator.generate(random(), this);
-        }
+        for (nextValue = generateOnce(); !evaluate(nextValue);)
+            nextValue = generateOnce();
 
         return nextValue;
     }
 
+    public Choices lastChoices() {
+        return lastChoices;
+    }
+
+    /*
+     * Regenerates a value from the given draws rather than random ones,
+     * giving nothing if the generator cannot produce a value satisfying the
+     * parameter's constraint from them.
+     */
+    public Optional<SeededValue> replay(Choices candidate) {
+        ChoiceTape tape = new ChoiceTape();
+        SourceOfRandomness replaying = new SourceOfRandomness(tape);
+        tape.startReplaying(candidate.draws(), REPLAY_OVERRUN);
+
+        try {
+            Object value =
+                generator.generate(
+                    replaying,
+                    new ReplayStatus(replaying, candidate.attempts()));
+            Choices used =
+                new Choices(tape.stopRecording(), candidate.attempts());
+
+            evaluator.bind(value);
+            return evaluator.evaluate()
+                ? Optional.of(new SeededValue(this, value, used))
+                : Optional.empty();
+        } catch (ChoiceTape.Overrun
+            | IllegalArgumentException
+            | IndexOutOfBoundsException ex) {
+
+            // Draws that random generation would rarely or never make can
+            // run a generator out of draws or out of range; such candidates
+            // are simply dropped. Any other failure propagates.
+            return Optional.empty();
+        }
+    }
+
     public List<Object> shrink(Object larger) {
         return generator.canShrink(larger)
             ? new ArrayList<>(generator.shrink(random(), larger))
             : emptyList();
     }
 
+    public Stream<Object> shrinkLazily(Object larger) {
+        return generator.canShrink(larger)
+            ? generator.shrinkLazily(random(), larger).map(Object.class::cast)
+            : Stream.empty();
+    }
+
+    private Object generateOnce() {
+        if (choices == null)
+            return generator.generate(random(), this);
+
+        int attempts = attempts();
+        choices.startRecording();
+        Object value = generator.generate(random(), this);
+        lastChoices = new Choices(choices.stopRecording(), attempts);
+        return value;
+    }
+
     private boolean evaluate(Object value) {
         evaluator.bind(value);
         boolean result = evaluator.evaluate();
@@ -149,12 +266,58 @@ public class PropertyParameterGenerationContext
         return parameter.typeContext().name();
     }
 
+    public String constraint() {
+        return parameter.constraint();
+    }
+
+    public boolean constraintCompiled() {
+        return evaluator.compiled();
+    }
+
     public BigDecimal magnitude(Object value) {
         return generator.canShrink(value)
             ? generator.magnitude(value).abs()
             : ZERO;
     }
 
+    /*
+     * Gives a generator what this context gave it when the replayed draws
+     * were made, but draws sizes from the replaying source.
+     */
+    private final class ReplayStatus implements GenerationStatus {
+        private final SourceOfRandomness replaying;
+        private final int attempts;
+        private int semiAttempts;
+
+        ReplayStatus(SourceOfRandomness replaying, int attempts) {
+            this.replaying = replaying;
+            this.attempts = attempts;
+        }
+
+        @Override public int size() {
+            return min(
+                distro.sampleWithMean(attempts() + 1, replaying),
+                sampleSize());
+        }
+
+        @Override public int attempts() {
+            return attempts + (semiAttempts / 10);
+        }
+
+        @Override public void semiAttempt() {
+            ++semiAttempts;
+        }
+
+        @Override public <T> GenerationStatus setValue(Key<T> key, T value) {
+            PropertyParameterGenerationContext.this.setValue(key, value);
+            return this;
+        }
+
+        @Override public <T> Optional<T> valueOf(Key<T> key) {
+            return PropertyParameterGenerationContext.this.valueOf(key);
+        }
+    }
+
     public static class DiscardRatioExceededException
         extends RuntimeException {
 
@@ -42,6 +42,10 @@ public class ServiceLoaderGeneratorSource implements Iterable<Generator<?>> {
         loader = ServiceLoader.load(Generator.class);
     }
 
+    public ServiceLoaderGeneratorSource(ClassLoader classLoader) {
+        loader = ServiceLoader.load(Generator.class, classLoader);
+    }
+
     @Override public Iterator<Generator<?>> iterator() {
         List<Generator<?>> generators = new ArrayList<>();
 
@@ -0,0 +1,93 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static java.lang.Long.rotateLeft;
+
+/**
+ * The L64X128MixRandom algorithm of the JDK's {@code java.util.random}
+ * package: a 64-bit linear congruential generator combined with
+ * xoroshiro128 and a mixing function. Given the same seed, it produces the
+ * same {@code long}s as the JDK's algorithm of that name.
+ */
+public class L64X128MixRandom extends RandomEngine {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0xD1342543DE82EF95L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long SILVER_RATIO = 0x6A09E667F3BCC909L;
+
+    private long a;
+    private long s;
+    private long x0;
+    private long x1;
+
+    public L64X128MixRandom() {
+        super();
+    }
+
+    public L64X128MixRandom(long seed) {
+        super(seed);
+    }
+
+    @Override public long nextLong() {
+        long result = mixLea64(s + x0);
+
+        s = MULTIPLIER * s + a;
+
+        long q0 = x0;
+        long q1 = x1;
+        q1 ^= q0;
+        x0 = rotateLeft(q0, 24) ^ q1 ^ (q1 << 16);
+        x1 = rotateLeft(q1, 37);
+
+        return result;
+    }
+
+    @Override protected void reseed(long seed) {
+        long mixed = seed ^ SILVER_RATIO;
+
+        a = mixMurmur64(mixed) | 1;
+        s = 1;
+        x0 = mixStafford13(mixed);
+        x1 = mixStafford13(mixed + GOLDEN_RATIO);
+        if ((x0 | x1) == 0) {
+            x0 = GOLDEN_RATIO;
+            x1 = SILVER_RATIO;
+        }
+    }
+
+    private static long mixLea64(long z) {
+        z = (z ^ (z >>> 32)) * 0xDABA0B6EB09322E3L;
+        z = (z ^ (z >>> 32)) * 0xDABA0B6EB09322E3L;
+        return z ^ (z >>> 32);
+    }
+
+    private static long mixMurmur64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
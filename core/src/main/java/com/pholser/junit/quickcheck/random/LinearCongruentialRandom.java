@@ -0,0 +1,90 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+/**
+ * The 48-bit linear congruential generator of {@link java.util.Random}:
+ * given the same seed, it produces the same draws as
+ * {@code new Random(seed)}. Unlike {@link java.util.Random}, its state
+ * can be {@linkplain #fork() forked} without serialization.
+ */
+public class LinearCongruentialRandom extends RandomEngine {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long state;
+
+    public LinearCongruentialRandom() {
+        super();
+    }
+
+    public LinearCongruentialRandom(long seed) {
+        super(seed);
+    }
+
+    @Override public long nextLong() {
+        return ((long) next(32) << 32) + next(32);
+    }
+
+    @Override public int nextInt() {
+        return next(32);
+    }
+
+    @Override public double nextDouble() {
+        return (((long) next(26) << 27) + next(27)) * 0x1.0p-53;
+    }
+
+    @Override public float nextFloat() {
+        return next(24) / ((float) (1 << 24));
+    }
+
+    @Override public boolean nextBoolean() {
+        return next(1) != 0;
+    }
+
+    @Override public void nextBytes(byte[] bytes) {
+        for (int i = 0; i < bytes.length;) {
+            int draw = nextInt();
+            for (int n = Math.min(bytes.length - i, Integer.BYTES);
+                n > 0;
+                --n, draw >>= Byte.SIZE) {
+
+                bytes[i++] = (byte) draw;
+            }
+        }
+    }
+
+    @Override protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    @Override protected void reseed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+/**
+ * The PCG-XSH-RR generator of O'Neill, with 64 bits of state and 32-bit
+ * outputs, two of which make up each {@code long}. Seeding follows the
+ * reference implementation's {@code pcg32_srandom(seed, seq)} with
+ * {@code seq} fixed at {@code 0xda3e39cb94b95bdb}, so that every instance
+ * draws from the stream whose increment is {@code seq << 1 | 1}.
+ */
+public class Pcg32Random extends RandomEngine {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 6364136223846793005L;
+    private static final long SEQUENCE = 0xDA3E39CB94B95BDBL;
+    private static final long INCREMENT = SEQUENCE << 1 | 1;
+
+    private long state;
+
+    public Pcg32Random() {
+        super();
+    }
+
+    public Pcg32Random(long seed) {
+        super(seed);
+    }
+
+    @Override public long nextLong() {
+        return ((long) nextInt() << 32) | (nextInt() & 0xFFFFFFFFL);
+    }
+
+    @Override public int nextInt() {
+        long old = state;
+        state = old * MULTIPLIER + INCREMENT;
+
+        int xorShifted = (int) (((old >>> 18) ^ old) >>> 27);
+        int rotation = (int) (old >>> 59);
+        return Integer.rotateRight(xorShifted, rotation);
+    }
+
+    @Override protected int next(int bits) {
+        return nextInt() >>> (32 - bits);
+    }
+
+    @Override protected void reseed(long seed) {
+        state = 0;
+        nextInt();
+        state += seed;
+        nextInt();
+    }
+}
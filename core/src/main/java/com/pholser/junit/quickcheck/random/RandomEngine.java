@@ -0,0 +1,177 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import java.util.Random;
+
+/**
+ * <p>Base class for replacements of {@link java.util.Random}'s linear
+ * congruential generator that produce 64 random bits per step, for use as
+ * the delegate of a {@link SourceOfRandomness}.</p>
+ *
+ * <p>Every draw of a {@link Random} is derived from {@link #nextLong()}, so
+ * subclasses need only advance their state there, and reset it in
+ * {@link #reseed(long)}. Unlike {@link Random}, instances are not safe for
+ * use by multiple threads; each property parameter has its own.</p>
+ *
+ * <p>An engine's state is a handful of primitive fields, so it can be
+ * {@linkplain #fork() forked} or {@linkplain #split() split} in constant
+ * time.</p>
+ */
+public abstract class RandomEngine extends Random implements Cloneable {
+    private static final long serialVersionUID = 1L;
+
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    /**
+     * Makes a new engine seeded with a value very likely to be distinct from
+     * that of any other engine.
+     */
+    protected RandomEngine() {
+        super();
+    }
+
+    /**
+     * Makes a new engine with the given seed.
+     *
+     * @param seed initial seed
+     */
+    protected RandomEngine(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Resets the engine's state as determined by the given seed; two engines
+     * of the same class given the same seed produce the same draws.
+     *
+     * @param seed value with which to seed this engine
+     */
+    @Override public void setSeed(long seed) {
+        haveNextNextGaussian = false;
+        reseed(seed);
+    }
+
+    /**
+     * Gives an engine of the same kind in the same state as this one: the
+     * two produce the same draws from here on, independently of each other.
+     *
+     * @return a copy of this engine
+     */
+    public RandomEngine fork() {
+        try {
+            return (RandomEngine) clone();
+        } catch (CloneNotSupportedException shouldNeverHappen) {
+            throw new AssertionError(shouldNeverHappen);
+        }
+    }
+
+    /**
+     * Gives an engine of the same kind, seeded with a draw from this one.
+     * This engine advances by that draw.
+     *
+     * @return a new engine whose draws are independent of this one's
+     */
+    public RandomEngine split() {
+        RandomEngine child = fork();
+        child.setSeed(nextLong());
+        return child;
+    }
+
+    /**
+     * @return 64 random bits, advancing the engine's state
+     */
+    @Override public abstract long nextLong();
+
+    @Override public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    @Override public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override public void nextBytes(byte[] bytes) {
+        int i = 0;
+        for (int words = bytes.length >> 3; words > 0; --words) {
+            long draw = nextLong();
+            for (int n = 0; n < Long.BYTES; ++n, draw >>>= Byte.SIZE)
+                bytes[i++] = (byte) draw;
+        }
+
+        if (i < bytes.length) {
+            for (long draw = nextLong(); i < bytes.length; draw >>>= Byte.SIZE)
+                bytes[i++] = (byte) draw;
+        }
+    }
+
+    @Override public double nextGaussian() {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * multiplier;
+        haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    @Override protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    /**
+     * Resets the engine's state from the given seed. Called during
+     * construction of {@link Random}, before subclass constructors run.
+     *
+     * @param seed value with which to seed this engine
+     */
+    protected abstract void reseed(long seed);
+
+    static long mixStafford13(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
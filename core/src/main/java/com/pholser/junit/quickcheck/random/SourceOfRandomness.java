@@ -26,7 +26,6 @@
 package com.pholser.junit.quickcheck.random;
 
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
-import static java.util.concurrent.TimeUnit.SECONDS;
 
 import com.pholser.junit.quickcheck.internal.Items;
 import com.pholser.junit.quickcheck.internal.Ranges;
@@ -40,6 +39,7 @@ import java.io.ObjectOutputStream;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Random;
 
@@ -50,9 +50,6 @@ import java.util.Random;
  */
 @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
 public class SourceOfRandomness {
-    private static final BigInteger NANOS_PER_SECOND =
-        BigInteger.valueOf(SECONDS.toNanos(1));
-
     private final Random delegate;
 
     private long seed;
@@ -70,13 +67,24 @@ public class SourceOfRandomness {
         delegate.setSeed(seed);
     }
 
+    private SourceOfRandomness(Random delegate, long seed) {
+        this.seed = seed;
+        this.delegate = delegate;
+    }
+
     /**
      * <p>Gives a JDK source of randomness, with the same internal state as
      * this source of randomness.</p>
      *
+     * <p>When the delegate is a {@link RandomEngine}, this copies its state
+     * directly; otherwise, it copies the delegate via serialization.</p>
+     *
      * @return a JDK "clone" of self
      */
     public Random toJDKRandom() {
+        if (delegate instanceof RandomEngine)
+            return ((RandomEngine) delegate).fork();
+
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
 
         try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
@@ -97,6 +105,47 @@ public class SourceOfRandomness {
         }
     }
 
+    /**
+     * <p>Gives a source of randomness in the same state as this one, with
+     * the same {@linkplain #seed() seed}: the two produce the same values
+     * from here on, independently of each other. This source of randomness
+     * does not advance.</p>
+     *
+     * <p>Forking costs a copy of a few fields when the delegate is a
+     * {@link RandomEngine}; see {@link #toJDKRandom()}.</p>
+     *
+     * @return a copy of this source of randomness
+     */
+    public SourceOfRandomness fork() {
+        return new SourceOfRandomness(toJDKRandom(), seed);
+    }
+
+    /**
+     * <p>Gives a source of randomness whose delegate is of the same kind as
+     * this one's, {@linkplain #seed() seeded} with a value drawn from this
+     * source of randomness. This source of randomness advances by that
+     * draw.</p>
+     *
+     * <p>Splitting is the way to hand a separate, reproducible stream of
+     * values to another thread or another generator.</p>
+     *
+     * @return a new source of randomness
+     */
+    public SourceOfRandomness split() {
+        long childSeed = delegate.nextLong();
+
+        Random child;
+        if (delegate instanceof RandomEngine)
+            child = ((RandomEngine) delegate).fork();
+        else if (delegate.getClass() == Random.class)
+            child = new Random();
+        else
+            child = toJDKRandom();
+        child.setSeed(childSeed);
+
+        return new SourceOfRandomness(child, childSeed);
+    }
+
     /**
      * @return a uniformly distributed boolean value
      * @see java.util.Random#nextBoolean()
@@ -294,6 +343,74 @@ public class SourceOfRandomness {
         return (short) nextLong(min, max);
     }
 
+    /**
+     * <p>Fills the given array with random bits, 64 to an element.</p>
+     *
+     * <p>This and the other bulk methods draw in one loop, without a call per
+     * element; given the same seed, they fill the same values every time.</p>
+     *
+     * @param bits an array to fill with random bits
+     */
+    public void nextBooleans(long[] bits) {
+        for (int i = 0; i < bits.length; ++i)
+            bits[i] = delegate.nextLong();
+    }
+
+    /**
+     * Fills the given array with random {@code double} values in the
+     * interval {@code [min, max)}; the same values, in order, as successive
+     * calls to {@link #nextDouble(double, double)}.
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextDoubles(double[] values, double min, double max) {
+        int comparison = checkRange(Ranges.Type.FLOAT, min, max);
+        if (comparison == 0) {
+            Arrays.fill(values, min);
+            return;
+        }
+
+        double range = max - min;
+        for (int i = 0; i < values.length; ++i)
+            values[i] = min + range * delegate.nextDouble();
+    }
+
+    /**
+     * Fills the given array with random {@code int} values, uniformly
+     * distributed across the interval {@code [min, max]}; the same values,
+     * in order, as successive calls to {@link #nextInt(int, int)}.
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextInts(int[] values, int min, int max) {
+        int comparison = checkRange(Ranges.Type.INTEGRAL, min, max);
+        if (comparison == 0)
+            Arrays.fill(values, min);
+        else
+            Ranges.choose(this, values, min, max);
+    }
+
+    /**
+     * Fills the given array with random {@code long} values, uniformly
+     * distributed across the interval {@code [min, max]}; the same values,
+     * in order, as successive calls to {@link #nextLong(long, long)}.
+     *
+     * @param values an array to fill with random values
+     * @param min lower bound of the desired interval
+     * @param max upper bound of the desired interval
+     */
+    public void nextLongs(long[] values, long min, long max) {
+        int comparison = checkRange(Ranges.Type.INTEGRAL, min, max);
+        if (comparison == 0)
+            Arrays.fill(values, min);
+        else
+            Ranges.choose(this, values, min, max);
+    }
+
     /**
      * Gives a random {@code BigInteger} representable by the given number
      * of bits.
@@ -319,14 +436,13 @@ public class SourceOfRandomness {
         if (comparison == 0)
             return min;
 
-        long[] next =
-            nextSecondsAndNanos(
-                min.getEpochSecond(),
-                min.getNano(),
-                max.getEpochSecond(),
-                max.getNano());
-
-        return Instant.ofEpochSecond(next[0], next[1]);
+        return Ranges.choose(
+            this,
+            min.getEpochSecond(),
+            min.getNano(),
+            max.getEpochSecond(),
+            max.getNano(),
+            Instant::ofEpochSecond);
     }
 
     /**
@@ -342,14 +458,13 @@ public class SourceOfRandomness {
         if (comparison == 0)
             return min;
 
-        long[] next =
-            nextSecondsAndNanos(
-                min.getSeconds(),
-                min.getNano(),
-                max.getSeconds(),
-                max.getNano());
-
-        return Duration.ofSeconds(next[0], next[1]);
+        return Ranges.choose(
+            this,
+            min.getSeconds(),
+            min.getNano(),
+            max.getSeconds(),
+            max.getNano(),
+            Duration::ofSeconds);
     }
 
     /**
@@ -383,26 +498,4 @@ public class SourceOfRandomness {
     protected final Random delegate() {
         return delegate;
     }
-
-    private long[] nextSecondsAndNanos(
-        long minSeconds,
-        long minNanos,
-        long maxSeconds,
-        long maxNanos) {
-
-        BigInteger nanoMin =
-            BigInteger.valueOf(minSeconds)
-                .multiply(NANOS_PER_SECOND)
-                .add(BigInteger.valueOf(minNanos));
-        BigInteger nanoMax =
-            BigInteger.valueOf(maxSeconds)
-                .multiply(NANOS_PER_SECOND)
-                .add(BigInteger.valueOf(maxNanos));
-
-        BigInteger[] generated =
-            Ranges.choose(this, nanoMin, nanoMax)
-                .divideAndRemainder(NANOS_PER_SECOND);
-
-        return new long[] { generated[0].longValue(), generated[1].longValue() };
-    }
 }
@@ -0,0 +1,66 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static java.lang.Long.rotateLeft;
+
+/**
+ * The xoroshiro128++ algorithm of Blackman and Vigna. Its 128 bits of state
+ * are seeded from successive outputs of SplitMix64, as its authors
+ * recommend.
+ */
+public class Xoroshiro128PlusPlusRandom extends RandomEngine {
+    private static final long serialVersionUID = 1L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long s0;
+    private long s1;
+
+    public Xoroshiro128PlusPlusRandom() {
+        super();
+    }
+
+    public Xoroshiro128PlusPlusRandom(long seed) {
+        super(seed);
+    }
+
+    @Override public long nextLong() {
+        long q0 = s0;
+        long q1 = s1;
+        long result = rotateLeft(q0 + q1, 17) + q0;
+
+        q1 ^= q0;
+        s0 = rotateLeft(q0, 49) ^ q1 ^ (q1 << 21);
+        s1 = rotateLeft(q1, 28);
+
+        return result;
+    }
+
+    @Override protected void reseed(long seed) {
+        s0 = mixStafford13(seed + GOLDEN_GAMMA);
+        s1 = mixStafford13(seed + 2 * GOLDEN_GAMMA);
+    }
+}
@@ -28,11 +28,10 @@ package com.pholser.junit.quickcheck.runner;
 import com.pholser.junit.quickcheck.Property;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
-import com.pholser.junit.quickcheck.internal.generator.ServiceLoaderGeneratorSource;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import org.junit.Test;
 import org.junit.runners.BlockJUnit4ClassRunner;
 import org.junit.runners.model.FrameworkMethod;
@@ -70,10 +69,8 @@ public class JUnitQuickcheck extends BlockJUnit4ClassRunner {
     public JUnitQuickcheck(Class<?> clazz) throws InitializationError {
         super(new JUnitQuickcheckTestClass(clazz));
 
-        SourceOfRandomness random = new SourceOfRandomness(new Random());
-        repo =
-            new GeneratorRepository(random)
-                .register(new ServiceLoaderGeneratorSource());
+        SourceOfRandomness random = new SourceOfRandomness(new LinearCongruentialRandom());
+        repo = GeneratorRepository.shared(random);
         distro = new GeometricDistribution();
         logger = LoggerFactory.getLogger("junit-quickcheck.value-reporting");
     }
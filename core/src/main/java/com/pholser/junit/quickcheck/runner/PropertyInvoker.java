@@ -0,0 +1,70 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import org.junit.runners.model.FrameworkMethod;
+
+/**
+ * Invokes a property method on a test instance with an array of arguments,
+ * through a spread method handle made once per property method. Falls back
+ * to {@link FrameworkMethod#invokeExplosively(Object, Object...)} if the
+ * method is not accessible to a public lookup.
+ */
+final class PropertyInvoker {
+    private final FrameworkMethod method;
+    private final MethodHandle handle;
+
+    PropertyInvoker(FrameworkMethod method) {
+        this.method = method;
+        this.handle = spreadHandleFor(method.getMethod());
+    }
+
+    void invoke(Object test, Object[] args) throws Throwable {
+        if (handle == null) {
+            method.invokeExplosively(test, args);
+        } else {
+            // Exceptions from the property come through unwrapped, just as
+            // invokeExplosively unwraps InvocationTargetException.
+            handle.invokeExact(test, args);
+        }
+    }
+
+    private static MethodHandle spreadHandleFor(Method method) {
+        try {
+            return MethodHandles.publicLookup()
+                .unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(methodType(void.class, Object.class, Object[].class));
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+}
@@ -25,10 +25,16 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static com.pholser.junit.quickcheck.Mode.SAMPLING;
+import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
+import static com.pholser.junit.quickcheck.internal.Reflection.reflectionException;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
+import static java.lang.Math.min;
 import static java.util.stream.Collectors.toList;
 
 import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.internal.ChoiceTape;
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterSampler;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
@@ -39,16 +45,25 @@ import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
 import com.pholser.junit.quickcheck.internal.sampling.ExhaustiveParameterSampler;
 import com.pholser.junit.quickcheck.internal.sampling.TupleParameterSampler;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.internal.AssumptionViolatedException;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.Statement;
 import org.junit.runners.model.TestClass;
 import org.slf4j.Logger;
@@ -56,15 +71,19 @@ import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.MethodGenericsContext;
 
 class PropertyStatement extends Statement {
+    static final String PARALLELISM_PROPERTY = "junit-quickcheck.parallelism";
+    static final String RANDOMNESS_PROPERTY = "junit-quickcheck.randomness";
+
     private final FrameworkMethod method;
     private final TestClass testClass;
+    private final TestClass verifierClass;
+    private final PropertyInvoker invoker;
     private final GeneratorRepository repo;
     private final GeometricDistribution distro;
     private final List<AssumptionViolatedException> assumptionViolations;
+    private final AtomicInteger successes;
     private final Logger logger;
 
-    private int successes;
-
     PropertyStatement(
         FrameworkMethod method,
         TestClass testClass,
@@ -74,9 +93,12 @@ class PropertyStatement extends Statement {
 
         this.method = method;
         this.testClass = testClass;
+        verifierClass = new TestClass(testClass.getJavaClass());
+        invoker = new PropertyInvoker(method);
         this.repo = repo;
         this.distro = distro;
-        assumptionViolations = new ArrayList<>();
+        assumptionViolations = Collections.synchronizedList(new ArrayList<>());
+        successes = new AtomicInteger();
         this.logger = logger;
     }
 
@@ -84,39 +106,172 @@ class PropertyStatement extends Statement {
         Property marker = method.getAnnotation(Property.class);
         ParameterSampler sampler = sampler(marker);
         ShrinkControl shrinkControl = new ShrinkControl(marker);
+        int parallelism = parallelism(marker);
+        Class<? extends Random> randomness = randomness(marker);
 
         MethodGenericsContext generics =
             GenericsResolver.resolve(testClass.getJavaClass())
                 .method(method.getMethod());
+
+        if (parallelism > 1 && marker.mode() == SAMPLING) {
+            verifyInParallel(
+                sampler,
+                shrinkControl,
+                generics,
+                randomness,
+                marker.trials(),
+                parallelism);
+        } else {
+            verifySerially(sampler, shrinkControl, generics, randomness);
+        }
+
+        if (successes.get() == 0 && !assumptionViolations.isEmpty()) {
+            throw new NoValuesSatisfiedPropertyAssumptions(
+                assumptionViolations);
+        }
+    }
+
+    private void verifySerially(
+        ParameterSampler sampler,
+        ShrinkControl shrinkControl,
+        MethodGenericsContext generics,
+        Class<? extends Random> randomness)
+        throws Throwable {
+
         List<PropertyParameterGenerationContext> paramContexts =
-            Arrays.stream(method.getMethod().getParameters())
-                .map(p -> parameterContextFor(p, generics))
-                .map(p -> new PropertyParameterGenerationContext(
-                    p,
-                    repo,
-                    distro,
-                    new SourceOfRandomness(new Random()),
-                    sampler
-                ))
-                .collect(toList());
+            parameterContexts(
+                sampler,
+                generics,
+                0,
+                randomness,
+                shrinkControl.shrinkChoices());
+        reportConstraints(paramContexts);
+        PropertyVerifier verifier =
+            new PropertyVerifier(verifierClass, method, invoker);
 
         Stream<List<SeededValue>> sample = sampler.sample(paramContexts);
         for (List<SeededValue> args :
                 (Iterable<List<SeededValue>>) sample::iterator) {
 
-            property(args, shrinkControl).verify();
+            property(verifier, args, f -> falsified(f, shrinkControl));
         }
+    }
 
-        if (successes == 0 && !assumptionViolations.isEmpty()) {
-            throw new NoValuesSatisfiedPropertyAssumptions(
-                assumptionViolations);
+    private void verifyInParallel(
+        ParameterSampler sampler,
+        ShrinkControl shrinkControl,
+        MethodGenericsContext generics,
+        Class<? extends Random> randomness,
+        int trials,
+        int parallelism)
+        throws Throwable {
+
+        AtomicReference<Falsification> firstFalsification =
+            new AtomicReference<>();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        int workerCount = min(parallelism, trials);
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < workerCount; ++i) {
+            List<PropertyParameterGenerationContext> paramContexts =
+                parameterContexts(
+                    sampler,
+                    generics,
+                    i,
+                    randomness,
+                    shrinkControl.shrinkChoices());
+            if (i == 0)
+                reportConstraints(paramContexts);
+            int share =
+                trials / workerCount + (i < trials % workerCount ? 1 : 0);
+
+            workers.add(() -> {
+                Iterator<List<SeededValue>> sample =
+                    sampler.sample(paramContexts).limit(share).iterator();
+
+                try {
+                    PropertyVerifier verifier =
+                        new PropertyVerifier(verifierClass, method, invoker);
+
+                    while (!stop.get() && sample.hasNext()) {
+                        property(verifier, sample.next(), f -> {
+                            firstFalsification.compareAndSet(null, f);
+                            stop.set(true);
+                        });
+                    }
+                } catch (Throwable t) {
+                    firstError.compareAndSet(null, t);
+                    stop.set(true);
+                }
+
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        try {
+            executor.invokeAll(workers);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (firstError.get() != null)
+            throw firstError.get();
+        if (firstFalsification.get() != null)
+            falsified(firstFalsification.get(), shrinkControl);
+    }
+
+    private List<PropertyParameterGenerationContext> parameterContexts(
+        ParameterSampler sampler,
+        MethodGenericsContext generics,
+        int worker,
+        Class<? extends Random> randomness,
+        boolean recordChoices) {
+
+        return Arrays.stream(method.getMethod().getParameters())
+            .map(p -> parameterContextFor(p, generics))
+            .map(p -> recordChoices
+                ? new PropertyParameterGenerationContext(
+                    p,
+                    repo,
+                    distro,
+                    new ChoiceTape(instantiate(randomness)),
+                    sampler,
+                    worker)
+                : new PropertyParameterGenerationContext(
+                    p,
+                    repo,
+                    distro,
+                    new SourceOfRandomness(instantiate(randomness)),
+                    sampler,
+                    worker))
+            .collect(toList());
+    }
+
+    private void reportConstraints(
+        List<PropertyParameterGenerationContext> params) {
+
+        if (!logger.isDebugEnabled())
+            return;
+
+        for (PropertyParameterGenerationContext each : params) {
+            if (each.constraint() != null) {
+                logger.debug(
+                    "Parameter {} of property {} checks constraint [{}] {}",
+                    each.name(),
+                    method.getName(),
+                    each.constraint(),
+                    each.constraintCompiled() ? "compiled" : "with OGNL");
+            }
         }
     }
 
-    private PropertyVerifier property(
+    private void property(
+        PropertyVerifier verifier,
         List<SeededValue> arguments,
-        ShrinkControl shrinkControl)
-        throws InitializationError {
+        Consumer<Falsification> onFalsified)
+        throws Throwable {
 
         if (logger.isDebugEnabled()) {
             logger.debug(
@@ -131,50 +286,65 @@ class PropertyStatement extends Statement {
         Object[] args = arguments.stream().map(SeededValue::value).toArray();
         long[] seeds =
             arguments.stream().mapToLong(SeededValue::seed).toArray();
+        Choices[] choices =
+            arguments.stream().map(SeededValue::choices).toArray(Choices[]::new);
 
-        return new PropertyVerifier(
-            testClass,
-            method,
+        verifier.verify(
             args,
             seeds,
-            s -> ++successes,
+            s -> successes.incrementAndGet(),
             assumptionViolations::add,
-            (e, action) -> {
-                if (!shrinkControl.shouldShrink()) {
-                    shrinkControl.onMinimalCounterexample()
-                        .handle(args, action);
-                    throw counterexampleFound(
-                        method.getName(),
-                        args,
-                        seeds,
-                        e);
-                }
-
-                try {
-                    shrink(params, args, seeds, shrinkControl, e);
-                } catch (AssertionError ex) {
-                    throw ex;
-                } catch (Throwable ex) {
-                    throw new AssertionError(ex);
-                }
-            }
+            (e, action) -> onFalsified.accept(
+                new Falsification(params, args, seeds, choices, e, action))
         );
     }
 
+    private void falsified(
+        Falsification falsification,
+        ShrinkControl shrinkControl) {
+
+        if (!shrinkControl.shouldShrink()) {
+            shrinkControl.onMinimalCounterexample()
+                .handle(falsification.args, falsification.repeat);
+            throw counterexampleFound(
+                method.getName(),
+                falsification.args,
+                falsification.seeds,
+                falsification.failure);
+        }
+
+        try {
+            shrink(
+                falsification.params,
+                falsification.args,
+                falsification.seeds,
+                falsification.choices,
+                shrinkControl,
+                falsification.failure);
+        } catch (AssertionError ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
     private void shrink(
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        Choices[] choices,
         ShrinkControl shrinkControl,
         AssertionError failure)
         throws Throwable {
 
         new Shrinker(
             method,
-            testClass,
+            verifierClass,
+            invoker,
             failure,
-            shrinkControl)
-            .shrink(params, args, seeds);
+            shrinkControl,
+            logger)
+            .shrink(params, args, seeds, choices);
     }
 
     private PropertyParameterContext parameterContextFor(
@@ -187,6 +357,28 @@ class PropertyStatement extends Statement {
         ).annotate(parameter);
     }
 
+    private static int parallelism(Property marker) {
+        return marker.parallelism() > 0
+            ? marker.parallelism()
+            : Integer.getInteger(PARALLELISM_PROPERTY, 1);
+    }
+
+    private static Class<? extends Random> randomness(Property marker) {
+        Class<? extends Random> kind = marker.randomness();
+
+        String name = System.getProperty(RANDOMNESS_PROPERTY);
+        if (kind == Random.class && name != null) {
+            try {
+                kind = Class.forName(name).asSubclass(Random.class);
+            } catch (ClassNotFoundException | ClassCastException ex) {
+                throw reflectionException(ex);
+            }
+        }
+
+        /* Same draws as java.util.Random, but cheap to fork */
+        return kind == Random.class ? LinearCongruentialRandom.class : kind;
+    }
+
     private ParameterSampler sampler(Property marker) {
         switch (marker.mode()) {
             case SAMPLING:
@@ -198,4 +390,29 @@ class PropertyStatement extends Statement {
                     "Don't recognize mode " + marker.mode());
         }
     }
+
+    private static final class Falsification {
+        final List<PropertyParameterGenerationContext> params;
+        final Object[] args;
+        final long[] seeds;
+        final Choices[] choices;
+        final AssertionError failure;
+        final Runnable repeat;
+
+        Falsification(
+            List<PropertyParameterGenerationContext> params,
+            Object[] args,
+            long[] seeds,
+            Choices[] choices,
+            AssertionError failure,
+            Runnable repeat) {
+
+            this.params = params;
+            this.args = args;
+            this.seeds = seeds;
+            this.choices = choices;
+            this.failure = failure;
+            this.repeat = repeat;
+        }
+    }
 }
@@ -38,37 +38,43 @@ import org.junit.runners.model.TestClass;
 
 class PropertyVerifier extends BlockJUnit4ClassRunner {
     private final FrameworkMethod method;
-    private final Object[] args;
-    private final long[] seeds;
-    private final Consumer<Void> onSuccess;
-    private final Consumer<AssumptionViolatedException> onAssumptionViolated;
-    private final BiConsumer<AssertionError, Runnable> onFailure;
+    private final PropertyInvoker invoker;
+
+    private Object[] args;
 
     PropertyVerifier(
         TestClass clazz,
         FrameworkMethod method,
+        PropertyInvoker invoker)
+        throws InitializationError {
+
+        super(clazz);
+
+        this.method = method;
+        this.invoker = invoker;
+    }
+
+    void verify(
         Object[] args,
         long[] seeds,
         Consumer<Void> onSuccess,
         Consumer<AssumptionViolatedException> onAssumptionViolated,
         BiConsumer<AssertionError, Runnable> onFailure)
-        throws InitializationError {
+        throws Throwable {
 
-        super(clazz.getJavaClass());
-
-        this.method = method;
         this.args = args;
-        this.seeds = seeds;
-        this.onSuccess = onSuccess;
-        this.onAssumptionViolated = onAssumptionViolated;
-        this.onFailure = onFailure;
-    }
 
-    void verify() throws Throwable {
-        methodBlock().evaluate();
+        methodBlock(args, seeds, onSuccess, onAssumptionViolated, onFailure)
+            .evaluate();
     }
 
-    private Statement methodBlock() {
+    private Statement methodBlock(
+        Object[] args,
+        long[] seeds,
+        Consumer<Void> onSuccess,
+        Consumer<AssumptionViolatedException> onAssumptionViolated,
+        BiConsumer<AssertionError, Runnable> onFailure) {
+
         Statement statement = super.methodBlock(method);
         return new Statement() {
             @Override public void evaluate() {
@@ -86,7 +92,7 @@ class PropertyVerifier extends BlockJUnit4ClassRunner {
                     };
                     onFailure.accept(e, repeat);
                 } catch (Throwable t) {
-                    reportErrorWithArguments(t);
+                    reportErrorWithArguments(args, seeds, t);
                 }
             }
         };
@@ -102,14 +108,19 @@ class PropertyVerifier extends BlockJUnit4ClassRunner {
         FrameworkMethod frameworkMethod,
         Object test) {
 
+        Object[] bound = args;
         return new Statement() {
             @Override public void evaluate() throws Throwable {
-                frameworkMethod.invokeExplosively(test, args);
+                invoker.invoke(test, bound);
             }
         };
     }
 
-    private void reportErrorWithArguments(Throwable e) {
+    private void reportErrorWithArguments(
+        Object[] args,
+        long[] seeds,
+        Throwable e) {
+
         throw new AssertionError(
             String.format(
                 "Unexpected error in property %s with args %s and seeds %s",
@@ -0,0 +1,63 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.util.Iterator;
+
+/*
+ * Shrink candidates in the order they should be tried, each built only when
+ * the shrinking process reaches it.
+ */
+final class ShrinkCandidates {
+    private final Iterator<ShrinkNode> candidates;
+    private ShrinkNode head;
+
+    ShrinkCandidates(Iterator<ShrinkNode> candidates) {
+        this.candidates = candidates;
+    }
+
+    boolean isEmpty() {
+        return peek() == null;
+    }
+
+    ShrinkNode peek() {
+        if (head == null && candidates.hasNext())
+            head = candidates.next();
+
+        return head;
+    }
+
+    ShrinkNode poll() {
+        ShrinkNode next = peek();
+        remove();
+        return next;
+    }
+
+    void remove() {
+        peek();
+        head = null;
+    }
+}
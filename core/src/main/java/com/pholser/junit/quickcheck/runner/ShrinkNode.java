@@ -28,25 +28,25 @@ package com.pholser.junit.quickcheck.runner;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.counterexampleFound;
 import static com.pholser.junit.quickcheck.runner.PropertyFalsified.smallerCounterexampleFound;
 import static java.util.Comparator.comparing;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
 
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.runners.model.FrameworkMethod;
-import org.junit.runners.model.InitializationError;
-import org.junit.runners.model.TestClass;
 
 final class ShrinkNode implements Comparable<ShrinkNode> {
     private final FrameworkMethod method;
-    private final TestClass testClass;
     private final List<PropertyParameterGenerationContext> params;
     private final Object[] args;
     private final long[] seeds;
+    private final Choices[] choices;
     private final int[] depths;
     private final int totalDepth;
     private final BigDecimal totalMagnitude;
@@ -55,18 +55,18 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
 
     private ShrinkNode(
         FrameworkMethod method,
-        TestClass testClass,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        Choices[] choices,
         int[] depths,
         AssertionError failure) {
 
         this.method = method;
-        this.testClass = testClass;
         this.params = params;
         this.args = args;
         this.seeds = seeds;
+        this.choices = choices;
         this.depths = depths;
         this.totalDepth = IntStream.of(depths).sum();
         this.totalMagnitude = computeTotalMagnitude();
@@ -76,35 +76,68 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
 
     static ShrinkNode root(
         FrameworkMethod method,
-        TestClass testClass,
         List<PropertyParameterGenerationContext> params,
         Object[] args,
         long[] seeds,
+        Choices[] choices,
         AssertionError failure) {
 
         return new ShrinkNode(
             method,
-            testClass,
             params,
             args,
             seeds,
+            choices,
             new int[args.length],
             failure);
     }
 
-    List<ShrinkNode> shrinks() {
-        return IntStream.range(0, params.size())
-            .mapToObj(i -> params.get(i).shrink(args[i]).stream()
-                .filter(o -> !o.equals(args[i]))
-                .map(o -> shrinkNodeFor(o, i)))
-            .flatMap(identity())
-            .collect(toList());
+    ShrinkCandidates shrinks() {
+        // Concatenating rather than flat-mapping keeps each parameter's
+        // shrinks from being buffered whole when pulled one at a time.
+        return new ShrinkCandidates(
+            IntStream.range(0, params.size())
+                .mapToObj(this::shrinksAt)
+                .reduce(Stream.empty(), Stream::concat)
+                .iterator());
     }
 
-    boolean verifyProperty() throws Throwable {
+    private Stream<ShrinkNode> shrinksAt(int index) {
+        PropertyParameterGenerationContext param = params.get(index);
+
+        Stream<ShrinkNode> shrinks =
+            param.shrinkLazily(args[index])
+                .filter(o -> !o.equals(args[index]))
+                .map(o -> shrinkNodeFor(o, null, index));
+        if (choices[index] == null)
+            return shrinks;
+
+        // After the generator's own shrinks, try values regenerated from
+        // simpler draws; keep only those whose draws really are simpler, so
+        // that shrinking by draws always makes progress.
+        Stream<ShrinkNode> replays =
+            choices[index].shrinks()
+                .map(param::replay)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .filter(v -> v.choices().simplerThan(choices[index]))
+                .filter(v -> !Objects.equals(v.value(), args[index]))
+                .map(v -> shrinkNodeFor(v.value(), v.choices(), index));
+        return Stream.concat(shrinks, replays);
+    }
+
+    boolean verifyProperty(PropertyVerifier verifier) throws Throwable {
         boolean[] result = new boolean[1];
 
-        property(result).verify();
+        verifier.verify(
+            args,
+            seeds,
+            s -> result[0] = true,
+            v -> result[0] = true,
+            (e, repeatTestOption) -> {
+                failure = e;
+                result[0] = false;
+            });
 
         return result[0];
     }
@@ -140,37 +173,28 @@ final class ShrinkNode implements Comparable<ShrinkNode> {
         return totalMagnitude;
     }
 
-    private PropertyVerifier property(boolean[] result)
-        throws InitializationError {
-
-        return new PropertyVerifier(
-            testClass,
-            method,
-            args,
-            seeds,
-            s -> result[0] = true,
-            v -> result[0] = true,
-            (e, repeatTestOption) -> {
-                failure = e;
-                result[0] = false;
-            });
-    }
+    private ShrinkNode shrinkNodeFor(
+        Object shrunk,
+        Choices shrunkChoices,
+        int index) {
 
-    private ShrinkNode shrinkNodeFor(Object shrunk, int index) {
         Object[] shrunkArgs = new Object[args.length];
         System.arraycopy(args, 0, shrunkArgs, 0, args.length);
         shrunkArgs[index] = shrunk;
 
+        Choices[] newChoices = choices.clone();
+        newChoices[index] = shrunkChoices;
+
         int[] newDepths = new int[depths.length];
         System.arraycopy(depths, 0, newDepths, 0, depths.length);
         ++newDepths[index];
 
         return new ShrinkNode(
             method,
-            testClass,
             params,
             shrunkArgs,
             seeds,
+            newChoices,
             newDepths,
             failure);
     }
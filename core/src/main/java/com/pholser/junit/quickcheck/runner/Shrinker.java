@@ -25,75 +25,247 @@
 
 package com.pholser.junit.quickcheck.runner;
 
+import static java.util.Collections.emptyList;
+
 import com.pholser.junit.quickcheck.MinimalCounterexampleHook;
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.ShrinkControl;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.TestClass;
+import org.slf4j.Logger;
 
 class Shrinker {
     private final FrameworkMethod method;
-    private final TestClass testClass;
+    private final TestClass verifierClass;
+    private final PropertyInvoker invoker;
     private final AssertionError failure;
     private final int maxShrinks;
     private final int maxShrinkDepth;
     private final int maxShrinkTime;
+    private final int shrinkParallelism;
     private final MinimalCounterexampleHook onMinimalCounterexample;
+    private final VisitedShrinks visited;
+    private final Logger logger;
 
     private int shrinkAttempts;
+    private int repeatedCandidates;
     private long shrinkTimeout;
 
     Shrinker(
         FrameworkMethod method,
-        TestClass testClass,
+        TestClass verifierClass,
+        PropertyInvoker invoker,
         AssertionError failure,
-        ShrinkControl shrinkControl) {
+        ShrinkControl shrinkControl,
+        Logger logger) {
 
         this.method = method;
-        this.testClass = testClass;
+        this.verifierClass = verifierClass;
+        this.invoker = invoker;
         this.failure = failure;
         this.maxShrinks = shrinkControl.maxShrinks();
         this.maxShrinkDepth =
             shrinkControl.maxShrinkDepth() * method.getMethod().getParameterCount();
         this.maxShrinkTime = shrinkControl.maxShrinkTime();
+        this.shrinkParallelism = shrinkControl.shrinkParallelism();
         this.onMinimalCounterexample = shrinkControl.onMinimalCounterexample();
+        this.visited = new VisitedShrinks(VisitedShrinks.DEFAULT_CAPACITY);
+        this.logger = logger;
     }
 
     void shrink(
         List<PropertyParameterGenerationContext> params,
         Object[] args,
-        long[] seeds)
+        long[] seeds,
+        Choices[] choices)
         throws Throwable {
 
+        PropertyVerifier verifier = verifier();
         ShrinkNode smallest =
-            ShrinkNode.root(method, testClass, params, args, seeds, failure);
-        Queue<ShrinkNode> nodes = new ArrayDeque<>(smallest.shrinks());
+            ShrinkNode.root(method, params, args, seeds, choices, failure);
+        ShrinkCandidates nodes = smallest.shrinks();
+        visited.visit(smallest);
 
         shrinkTimeout = System.currentTimeMillis() + maxShrinkTime;
 
-        while (shouldContinueShrinking(nodes)) {
+        smallest =
+            shrinkParallelism > 1
+                ? shrinkInParallel(smallest, nodes)
+                : shrinkSerially(smallest, nodes, verifier);
+
+        if (logger.isDebugEnabled()) {
+            int considered = shrinkAttempts + repeatedCandidates;
+            logger.debug(
+                "Shrinking property {} verified {} candidates and skipped {}"
+                    + " already verified ({}% of candidates considered)",
+                method.getName(),
+                shrinkAttempts,
+                repeatedCandidates,
+                considered == 0 ? 0 : repeatedCandidates * 100 / considered);
+        }
+
+        handleMinimalCounterexample(smallest, verifier);
+        throw smallest.fail(failure, args);
+    }
+
+    private ShrinkNode shrinkSerially(
+        ShrinkNode smallest,
+        ShrinkCandidates nodes,
+        PropertyVerifier verifier)
+        throws Throwable {
+
+        while (shouldContinueShrinking(skipVisited(nodes, emptyList()), 0)) {
             ShrinkNode next = nodes.poll();
 
-            boolean result = next.verifyProperty();
+            boolean result = next.verifyProperty(verifier);
             ++shrinkAttempts;
+            visited.visit(next);
 
             if (!result) {
                 smallest = next;
-                nodes = new ArrayDeque<>(smallest.shrinks());
+                nodes = smallest.shrinks();
             }
         }
 
-        handleMinimalCounterexample(smallest);
-        throw smallest.fail(failure, args);
+        return smallest;
     }
 
-    private void handleMinimalCounterexample(ShrinkNode counterexample) {
+    /*
+     * Verifies up to shrinkParallelism candidates at a time, in queue order.
+     * The first failing candidate in queue order wins, as it would if
+     * shrinking serially; candidates behind it that are still running are
+     * interrupted, and their outcomes are disregarded.
+     */
+    private ShrinkNode shrinkInParallel(
+        ShrinkNode smallest,
+        ShrinkCandidates nodes)
+        throws Throwable {
+
+        List<PropertyVerifier> verifiers = new ArrayList<>();
+        for (int i = 0; i < shrinkParallelism; ++i)
+            verifiers.add(verifier());
+
+        ExecutorService executor =
+            Executors.newFixedThreadPool(shrinkParallelism);
+        try {
+            while (shouldContinueShrinking(skipVisited(nodes, emptyList()), 0)) {
+                List<ShrinkNode> window = new ArrayList<>();
+                while (window.size() < shrinkParallelism
+                    && shouldContinueShrinking(
+                        skipVisited(nodes, window),
+                        window.size())) {
+
+                    window.add(nodes.poll());
+                }
+
+                int failed = verifyWindow(window, verifiers, executor);
+                int verified = failed == -1 ? window.size() : failed + 1;
+                shrinkAttempts += verified;
+                window.subList(0, verified).forEach(visited::visit);
+
+                if (failed != -1) {
+                    smallest = window.get(failed);
+                    nodes = smallest.shrinks();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return smallest;
+    }
+
+    private int verifyWindow(
+        List<ShrinkNode> window,
+        List<PropertyVerifier> verifiers,
+        ExecutorService executor)
+        throws Throwable {
+
+        AtomicInteger cutoff = new AtomicInteger(window.size());
+        AtomicReferenceArray<Thread> running =
+            new AtomicReferenceArray<>(window.size());
+        AtomicReferenceArray<Throwable> errors =
+            new AtomicReferenceArray<>(window.size());
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < window.size(); ++i) {
+            int index = i;
+            results.add(executor.submit(() -> {
+                if (index > cutoff.get())
+                    return true;
+
+                running.set(index, Thread.currentThread());
+                try {
+                    return window.get(index)
+                        .verifyProperty(verifiers.get(index));
+                } catch (Throwable t) {
+                    errors.set(index, t);
+                    return true;
+                } finally {
+                    running.set(index, null);
+                }
+            }));
+        }
+
+        int failed = -1;
+        for (int i = 0; i < results.size(); ++i) {
+            boolean result = results.get(i).get();
+
+            if (failed == -1 && errors.get(i) != null) {
+                cancelAfter(i, cutoff, running);
+                awaitAll(results);
+                throw errors.get(i);
+            }
+            if (failed == -1 && !result) {
+                failed = i;
+                cancelAfter(i, cutoff, running);
+            }
+        }
+
+        return failed;
+    }
+
+    private static void awaitAll(List<Future<Boolean>> results)
+        throws InterruptedException, ExecutionException {
+
+        for (Future<Boolean> each : results)
+            each.get();
+    }
+
+    private static void cancelAfter(
+        int index,
+        AtomicInteger cutoff,
+        AtomicReferenceArray<Thread> running) {
+
+        cutoff.set(index);
+        for (int i = index + 1; i < running.length(); ++i) {
+            Thread thread = running.get(i);
+            if (thread != null)
+                thread.interrupt();
+        }
+    }
+
+    private PropertyVerifier verifier() throws InitializationError {
+        return new PropertyVerifier(verifierClass, method, invoker);
+    }
+
+    private void handleMinimalCounterexample(
+        ShrinkNode counterexample,
+        PropertyVerifier verifier) {
+
         Runnable repeat = () -> {
             try {
-                counterexample.verifyProperty();
+                counterexample.verifyProperty(verifier);
             } catch (Throwable ignored) {
             }
         };
@@ -101,8 +273,31 @@ class Shrinker {
         onMinimalCounterexample.handle(counterexample.args(), repeat);
     }
 
-    private boolean shouldContinueShrinking(Queue<ShrinkNode> nodes) {
-        return shrinkAttempts < maxShrinks
+    private ShrinkCandidates skipVisited(
+        ShrinkCandidates nodes,
+        List<ShrinkNode> pending) {
+
+        while (!nodes.isEmpty()) {
+            ShrinkNode next = nodes.peek();
+            if (!visited.seen(next)
+                && pending.stream().noneMatch(
+                    p -> VisitedShrinks.sameArguments(p, next))) {
+
+                break;
+            }
+
+            nodes.remove();
+            ++repeatedCandidates;
+        }
+
+        return nodes;
+    }
+
+    private boolean shouldContinueShrinking(
+        ShrinkCandidates nodes,
+        int pendingAttempts) {
+
+        return shrinkAttempts + pendingAttempts < maxShrinks
             && shrinkTimeout >= System.currentTimeMillis()
             && !nodes.isEmpty()
             && nodes.peek().depth() <= maxShrinkDepth;
@@ -0,0 +1,96 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, least-recently-used record of the argument tuples the shrinking
+ * process has already verified, so that it does not verify them again.
+ */
+final class VisitedShrinks {
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Map<Arguments, Boolean> visited;
+
+    VisitedShrinks(int capacity) {
+        visited = new LeastRecentlyUsed(capacity);
+    }
+
+    boolean seen(ShrinkNode node) {
+        return visited.containsKey(new Arguments(node.args()));
+    }
+
+    void visit(ShrinkNode node) {
+        visited.put(new Arguments(node.args()), Boolean.TRUE);
+    }
+
+    static boolean sameArguments(ShrinkNode first, ShrinkNode second) {
+        return Arrays.deepEquals(first.args(), second.args());
+    }
+
+    private static final class LeastRecentlyUsed
+        extends LinkedHashMap<Arguments, Boolean> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        LeastRecentlyUsed(int capacity) {
+            super(16, 0.75f, true);
+
+            this.capacity = capacity;
+        }
+
+        @Override protected boolean removeEldestEntry(
+            Map.Entry<Arguments, Boolean> eldest) {
+
+            return size() > capacity;
+        }
+    }
+
+    private static final class Arguments {
+        private final Object[] args;
+        private final int hash;
+
+        Arguments(Object[] args) {
+            this.args = args;
+            this.hash = Arrays.deepHashCode(args);
+        }
+
+        @Override public boolean equals(Object o) {
+            return o instanceof Arguments
+                && hash == ((Arguments) o).hash
+                && Arrays.deepEquals(args, ((Arguments) o).args);
+        }
+
+        @Override public int hashCode() {
+            return hash;
+        }
+    }
+}
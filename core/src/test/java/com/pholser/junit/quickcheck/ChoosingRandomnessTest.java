@@ -0,0 +1,165 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.LinearCongruentialRandom;
+import com.pholser.junit.quickcheck.random.Pcg32Random;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.Xoroshiro128PlusPlusRandom;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ChoosingRandomnessTest {
+    @Test public void randomnessPerProperty() {
+        assertThat(testResult(RandomnessPerProperty.class), isSuccessful());
+        assertEquals(
+            Pcg32Random.class,
+            RandomnessPerProperty.randomness.iterator().next());
+        assertEquals(1, RandomnessPerProperty.randomness.size());
+        RandomnessPerProperty.randomness.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RandomnessPerProperty {
+        static final Set<Class<?>> randomness = new HashSet<>();
+
+        @Property(randomness = Pcg32Random.class)
+        public void shouldHold(@From(Randomness.class) Class<?> c) {
+            randomness.add(c);
+        }
+    }
+
+    @Test public void randomnessFromSystemProperty() {
+        System.setProperty(
+            "junit-quickcheck.randomness",
+            Xoroshiro128PlusPlusRandom.class.getName());
+        try {
+            assertThat(
+                testResult(RandomnessFromSystemProperty.class),
+                isSuccessful());
+        } finally {
+            System.clearProperty("junit-quickcheck.randomness");
+        }
+
+        assertEquals(
+            Xoroshiro128PlusPlusRandom.class,
+            RandomnessFromSystemProperty.randomness.iterator().next());
+        RandomnessFromSystemProperty.randomness.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RandomnessFromSystemProperty {
+        static final Set<Class<?>> randomness = new HashSet<>();
+
+        @Property public void shouldHold(@From(Randomness.class) Class<?> c) {
+            randomness.add(c);
+        }
+    }
+
+    @Test public void defaultRandomness() {
+        assertThat(testResult(DefaultRandomness.class), isSuccessful());
+        assertEquals(
+            LinearCongruentialRandom.class,
+            DefaultRandomness.randomness.iterator().next());
+        DefaultRandomness.randomness.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DefaultRandomness {
+        static final Set<Class<?>> randomness = new HashSet<>();
+
+        @Property public void shouldHold(@From(Randomness.class) Class<?> c) {
+            randomness.add(c);
+        }
+    }
+
+    @Test public void fixedSeedWithChosenRandomness() {
+        assertThat(testResult(FixedSeed.class), isSuccessful());
+        assertEquals(FixedSeed.first, FixedSeed.second);
+        assertNotEquals(FixedSeed.first, FixedSeed.jdk);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FixedSeed {
+        static final List<Long> first = new ArrayList<>();
+        static final List<Long> second = new ArrayList<>();
+        static final List<Long> jdk = new ArrayList<>();
+
+        @Property(trials = 10, randomness = Xoroshiro128PlusPlusRandom.class)
+        public void first(@When(seed = 42) @From(Longs.class) Long i) {
+            first.add(i);
+        }
+
+        @Property(trials = 10, randomness = Xoroshiro128PlusPlusRandom.class)
+        public void second(@When(seed = 42) @From(Longs.class) Long i) {
+            second.add(i);
+        }
+
+        @Property(trials = 10)
+        public void jdk(@When(seed = 42) @From(Longs.class) Long i) {
+            jdk.add(i);
+        }
+    }
+
+    public static class Randomness extends Generator<Class> {
+        public Randomness() {
+            super(Class.class);
+        }
+
+        @Override public Class generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return random.toJDKRandom().getClass();
+        }
+    }
+
+    public static class Longs extends Generator<Long> {
+        public Longs() {
+            super(Long.class);
+        }
+
+        @Override public Long generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return random.nextLong();
+        }
+    }
+}
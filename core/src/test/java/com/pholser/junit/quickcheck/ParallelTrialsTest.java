@@ -0,0 +1,157 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeThat;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class ParallelTrialsTest {
+    @Test public void spreadsTrialsAcrossWorkers() {
+        assertThat(testResult(SpreadingTrials.class), isSuccessful());
+        assertEquals(100, SpreadingTrials.iterations.get());
+        assertEquals(4, SpreadingTrials.threads.size());
+        SpreadingTrials.iterations.set(0);
+        SpreadingTrials.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SpreadingTrials {
+        static final AtomicInteger iterations = new AtomicInteger();
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 100, parallelism = 4)
+        public void shouldHold(Foo f) {
+            iterations.incrementAndGet();
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @Test public void parallelismFromSystemProperty() {
+        System.setProperty("junit-quickcheck.parallelism", "3");
+        try {
+            assertThat(
+                testResult(ParallelismFromSystemProperty.class),
+                isSuccessful());
+        } finally {
+            System.clearProperty("junit-quickcheck.parallelism");
+        }
+
+        assertEquals(3, ParallelismFromSystemProperty.threads.size());
+        ParallelismFromSystemProperty.threads.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ParallelismFromSystemProperty {
+        static final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Property(trials = 30) public void shouldHold(Foo f) {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    @Test public void shrinksFirstFailureFound() {
+        assertThat(
+            testResult(ShrinkingInParallel.class),
+            hasSingleFailureContaining(
+                String.format("With arguments: [%s]", new Foo(1))));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingInParallel {
+        @Property(
+            parallelism = 4,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE)
+        public void shouldHold(Foo f) {
+            assumeThat(f.i(), greaterThan(0));
+
+            assertThat(f.i(), lessThan(1));
+        }
+    }
+
+    @Test public void firstWorkerReproducesFixedSeed() {
+        assertThat(testResult(FixedSeedSerially.class), isSuccessful());
+        assertThat(testResult(FixedSeedInParallel.class), isSuccessful());
+
+        assertThat(
+            FixedSeedInParallel.values,
+            hasItems(FixedSeedSerially.values.toArray(new Foo[0])));
+        FixedSeedSerially.values.clear();
+        FixedSeedInParallel.values.clear();
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FixedSeedSerially {
+        static final List<Foo> values = new ArrayList<>();
+
+        @Property(trials = 10)
+        public void shouldHold(@When(seed = -1L) Foo f) {
+            values.add(f);
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class FixedSeedInParallel {
+        static final List<Foo> values =
+            Collections.synchronizedList(new ArrayList<>());
+
+        @Property(trials = 20, parallelism = 2)
+        public void shouldHold(@When(seed = -1L) Foo f) {
+            values.add(f);
+        }
+    }
+
+    @Test public void errorOnAWorker() {
+        assertThat(
+            testResult(ErrorInParallel.class),
+            hasSingleFailureContaining("Unexpected error in property"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ErrorInParallel {
+        @Property(parallelism = 2) public void shouldHold(Foo f) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -404,4 +404,34 @@ public class PropertiesWithExplicitGeneratorsTest {
         @Property public void holds(Box<@From(AnInt.class) String> box) {
         }
     }
+
+    @Test public void explicitGeneratorMadeWithTypeConstructor() {
+        assertThat(
+            testResult(ExplicitGeneratorMadeWithTypeConstructor.class),
+            isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ExplicitGeneratorMadeWithTypeConstructor {
+        @Property public void holds(
+            @From(Typed.class) String first,
+            @From(Typed.class) String second) {
+
+            assertEquals("typed", first);
+            assertEquals("typed", second);
+        }
+    }
+
+    public static class Typed<T> extends Generator<T> {
+        public Typed(Class<T> type) {
+            super(type);
+        }
+
+        @Override public T generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return types().get(0).cast("typed");
+        }
+    }
 }
@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -39,14 +40,22 @@ import static org.junit.experimental.results.ResultMatchers.failureCountIs;
 import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
 import static org.junit.experimental.results.ResultMatchers.isSuccessful;
 
+import com.pholser.junit.quickcheck.generator.Ctor;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import com.pholser.junit.quickcheck.test.generator.AFooBadShrinks;
 import com.pholser.junit.quickcheck.test.generator.Between;
 import com.pholser.junit.quickcheck.test.generator.Foo;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.Test;
+import org.junit.runner.JUnitCore;
 import org.junit.runner.RunWith;
 
 public class ShrinkingTest {
@@ -239,6 +248,191 @@ public class ShrinkingTest {
         }
     }
 
+    @Test public void shrinkingInParallel() {
+        assertThat(
+            testResult(ShrinkingInParallel.class),
+            hasSingleFailureContaining(
+                String.format(
+                    "With arguments: [%s, %s]",
+                    new Foo(1),
+                    new Foo(1))));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingInParallel {
+        @Property(shrinkParallelism = 4) public void shouldHold(
+            @Between(min = 1, max = 500) Foo first,
+            @Between(min = 1, max = 500) Foo second) {
+
+            assertThat(first.i(), lessThan(1));
+            assertThat(second.i(), lessThan(1));
+        }
+    }
+
+    @Test public void parallelShrinkingSettlesWhereSerialShrinkingDoes() {
+        String serial =
+            JUnitCore.runClasses(SerialShrinkingWithFixedSeeds.class)
+                .getFailures().get(0).getMessage();
+        String parallel =
+            JUnitCore.runClasses(ParallelShrinkingWithFixedSeeds.class)
+                .getFailures().get(0).getMessage();
+
+        assertEquals(serial, parallel);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class SerialShrinkingWithFixedSeeds {
+        @Property public void shouldHold(
+            @When(seed = 7L) @Between(min = 1, max = 500) Foo first,
+            @When(seed = 11L) @Between(min = 1, max = 500) Foo second) {
+
+            assertThat(first.i() + second.i(), lessThan(300));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ParallelShrinkingWithFixedSeeds {
+        @Property(shrinkParallelism = 3) public void shouldHold(
+            @When(seed = 7L) @Between(min = 1, max = 500) Foo first,
+            @When(seed = 11L) @Between(min = 1, max = 500) Foo second) {
+
+            assertThat(first.i() + second.i(), lessThan(300));
+        }
+    }
+
+    @Test public void verifiesEachShrinkCandidateOnlyOnce() {
+        assertThat(
+            testResult(RepeatedShrinkCandidates.class),
+            failureCountIs(1));
+        assertEquals(
+            1,
+            Collections.frequency(
+                RepeatedShrinkCandidates.shrinkAttempts,
+                new Foo(0)));
+        assertThat(RepeatedShrinkCandidates.shrinkAttempts.size(), greaterThan(2));
+        RepeatedShrinkCandidates.shrinkAttempts.clear();
+        RepeatedShrinkCandidates.shrinking = false;
+    }
+
+    public static class ZeroOrHalf extends Generator<Foo> {
+        public ZeroOrHalf() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(random.nextInt(1 << 20, Integer.MAX_VALUE));
+        }
+
+        @Override public List<Foo> doShrink(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            return larger.i() == 0
+                ? Collections.emptyList()
+                : Arrays.asList(new Foo(0), new Foo(larger.i() / 2));
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class RepeatedShrinkCandidates {
+        static final List<Foo> shrinkAttempts = new ArrayList<>();
+        static boolean shrinking;
+
+        @Property(maxShrinks = 1000, maxShrinkDepth = 100)
+        public void shouldHold(@From(ZeroOrHalf.class) Foo f) {
+            if (shrinking)
+                shrinkAttempts.add(f);
+
+            if (f.i() > 0) {
+                shrinking = true;
+                fail();
+            }
+        }
+    }
+
+    @Test public void pullsShrinkCandidatesLazily() {
+        assertThat(
+            testResult(EndlessShrinkCandidates.class),
+            failureCountIs(1));
+        assertThat(
+            EndlessShrinkCandidates.shrinkAttempts,
+            lessThanOrEqualTo(20));
+        EndlessShrinkCandidates.shrinkAttempts = 0;
+        EndlessShrinkCandidates.shrinking = false;
+    }
+
+    public static class Endlessly extends Generator<Foo> {
+        public Endlessly() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return new Foo(random.nextInt(1, 100));
+        }
+
+        @Override public Stream<Foo> doShrinkLazily(
+            SourceOfRandomness random,
+            Foo larger) {
+
+            return Stream.iterate(larger.i() + 1, i -> i + 1).map(Foo::new);
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class EndlessShrinkCandidates {
+        static int shrinkAttempts;
+        static boolean shrinking;
+
+        @Property(maxShrinks = 20)
+        public void shouldHold(@From(Endlessly.class) Foo f) {
+            if (shrinking)
+                ++shrinkAttempts;
+
+            shrinking = true;
+            fail();
+        }
+    }
+
+    @Test public void shrinkingByRecordedChoices() {
+        assertThat(
+            testResult(ShrinkingByChoices.class),
+            hasSingleFailureContaining(
+                String.format(
+                    "With arguments: [%s]",
+                    new Foos(new Foo(101), new Foo(0)))));
+    }
+
+    public static class Foos {
+        private final Foo first;
+        private final Foo second;
+
+        public Foos(Foo first, Foo second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override public String toString() {
+            return "(" + first + ", " + second + ')';
+        }
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ShrinkingByChoices {
+        @Property(
+            shrinkChoices = true,
+            maxShrinks = Integer.MAX_VALUE,
+            maxShrinkDepth = Integer.MAX_VALUE / 2)
+        public void shouldHold(@From(Ctor.class) Foos f) {
+            assertThat(f.first.i(), lessThanOrEqualTo(100));
+        }
+    }
+
     @Test public void timeout() {
         assertThat(
             testResult(ShrinkingTimeout.class),
@@ -0,0 +1,135 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.junit.Test;
+
+public class BoundsTest {
+    @Test public void noneNarrowsNothing() {
+        Bounds none = Bounds.none();
+
+        assertTrue(none.isNone());
+        assertEquals(-4L, none.narrowMin(-4L));
+        assertEquals(9L, none.narrowMax(9L));
+        assertNull(none.narrowMin((BigInteger) null));
+        assertNull(none.narrowMax((BigDecimal) null));
+        assertEquals(0.5, none.narrowMin(0.5), 0);
+        assertEquals(3, none.narrowMinSize(3));
+        assertEquals(Integer.MAX_VALUE, none.narrowMaxSize(Integer.MAX_VALUE));
+    }
+
+    @Test public void exclusiveIntegralBounds() {
+        Bounds bounds =
+            Bounds.none()
+                .atLeast(BigDecimal.ZERO, false)
+                .atMost(new BigDecimal("100"), false);
+
+        assertFalse(bounds.isNone());
+        assertEquals(1L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(99L, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void inclusiveFractionalBoundsOnIntegers() {
+        Bounds bounds =
+            Bounds.none()
+                .atLeast(new BigDecimal("-2.5"), true)
+                .atMost(new BigDecimal("7.5"), true);
+
+        assertEquals(-2L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(7L, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void keepsTighterOwnLimits() {
+        Bounds bounds =
+            Bounds.none()
+                .atLeast(BigDecimal.ONE, true)
+                .atMost(BigDecimal.TEN, true);
+
+        assertEquals(3L, bounds.narrowMin(3L));
+        assertEquals(5L, bounds.narrowMax(5L));
+        assertEquals(0.5, bounds.narrowMax(0.5), 0);
+    }
+
+    @Test public void saturatesBeyondLong() {
+        Bounds bounds =
+            Bounds.none()
+                .atLeast(new BigDecimal("1e30"), true)
+                .atMost(new BigDecimal("-1e30"), true);
+
+        assertEquals(Long.MAX_VALUE, bounds.narrowMin(0L));
+        assertEquals(Long.MIN_VALUE, bounds.narrowMax(0L));
+    }
+
+    @Test public void unboundedBigIntegersTakeTheBounds() {
+        Bounds bounds = Bounds.none().atLeast(BigDecimal.TEN, false);
+
+        assertEquals(
+            BigInteger.valueOf(11),
+            bounds.narrowMin((BigInteger) null));
+        assertNull(bounds.narrowMax((BigInteger) null));
+    }
+
+    @Test public void exclusiveLowerBoundOnDoubles() {
+        Bounds bounds = Bounds.none().atLeast(BigDecimal.ZERO, false);
+
+        assertEquals(Double.MIN_VALUE, bounds.narrowMin(-1D), 0);
+    }
+
+    @Test public void tighterBoundsWin() {
+        Bounds bounds =
+            Bounds.none()
+                .atLeast(BigDecimal.ONE, true)
+                .atLeast(BigDecimal.ZERO, true)
+                .atLeast(BigDecimal.ONE, false)
+                .atLeast(BigDecimal.ONE, true);
+
+        assertEquals(2L, bounds.narrowMin(Long.MIN_VALUE));
+    }
+
+    @Test public void sizes() {
+        Bounds bounds =
+            Bounds.none().sizeAtLeast(2).sizeAtMost(5).sizeAtMost(7);
+
+        assertEquals(2, bounds.narrowMinSize(0));
+        assertEquals(3, bounds.narrowMinSize(3));
+        assertEquals(5, bounds.narrowMaxSize(100));
+    }
+
+    @Test public void sameBoundsGiveSameObject() {
+        Bounds bounds = Bounds.none().sizeAtLeast(2);
+
+        assertSame(bounds, bounds.sizeAtLeast(1));
+        assertSame(bounds, bounds.sizeAtMost(Integer.MAX_VALUE));
+    }
+}
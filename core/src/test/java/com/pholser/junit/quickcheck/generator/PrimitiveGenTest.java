@@ -0,0 +1,102 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.pholser.junit.quickcheck.internal.generator.SimpleGenerationStatus;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class PrimitiveGenTest {
+    @Rule public final MockitoRule mockito = MockitoJUnit.rule();
+
+    @Mock private SourceOfRandomness random;
+    private SimpleGenerationStatus status;
+
+    @Before public void setUp() {
+        status = new SimpleGenerationStatus(null, null, 0);
+    }
+
+    @Test public void intGenFillsArraysOneValueAtATimeByDefault() {
+        when(random.nextInt()).thenReturn(3).thenReturn(5).thenReturn(7);
+        IntGen ints = (r, s) -> r.nextInt();
+
+        int[] values = new int[3];
+        ints.generateInts(random, status, values);
+
+        assertArrayEquals(new int[] { 3, 5, 7 }, values);
+    }
+
+    @Test public void intGenAsGen() {
+        when(random.nextInt()).thenReturn(3);
+        Gen<Integer> ints = (IntGen) (r, s) -> r.nextInt();
+
+        assertEquals(Integer.valueOf(3), ints.generate(random, status));
+    }
+
+    @Test public void mappingIntGenToInts() {
+        when(random.nextInt()).thenReturn(3);
+        IntGen ints = (r, s) -> r.nextInt();
+
+        assertEquals(9, ints.mapToInt(i -> i * i).generateInt(random, status));
+    }
+
+    @Test public void mappingIntGenToObjects() {
+        when(random.nextInt()).thenReturn(3);
+        IntGen ints = (r, s) -> r.nextInt();
+
+        assertEquals(
+            "3",
+            ints.mapToObj(String::valueOf).generate(random, status));
+    }
+
+    @Test public void mappingLongGenToLongs() {
+        when(random.nextLong()).thenReturn(-4L);
+        LongGen longs = (r, s) -> r.nextLong();
+
+        assertEquals(
+            4L,
+            longs.mapToLong(Math::abs).generateLong(random, status));
+    }
+
+    @Test public void doubleGenFillsArraysOneValueAtATimeByDefault() {
+        when(random.nextDouble()).thenReturn(0.25).thenReturn(0.5);
+        DoubleGen doubles = (r, s) -> r.nextDouble();
+
+        double[] values = new double[2];
+        doubles.generateDoubles(random, status, values);
+
+        assertArrayEquals(new double[] { 0.25, 0.5 }, values, 0D);
+    }
+}
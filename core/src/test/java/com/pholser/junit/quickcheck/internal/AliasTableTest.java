@@ -0,0 +1,117 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class AliasTableTest {
+    @Test public void chancesAreExactlyInProportionToWeights() {
+        assertExactChances(2, 3, 4);
+        assertExactChances(1, 1, 1, 1);
+        assertExactChances(1, 2, 3);
+        assertExactChances(100, 1, 1, 7, 30, 2);
+        assertExactChances(Integer.MAX_VALUE, 1, Integer.MAX_VALUE - 1);
+    }
+
+    @Test public void singleItem() {
+        AliasTable<String> table =
+            new AliasTable<>(asList(new Weighted<>("a", 5)));
+
+        assertEquals(1, table.size());
+        assertEquals("a", table.choose(null));
+    }
+
+    @Test public void noItems() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new AliasTable<String>(emptyList()));
+    }
+
+    private static void assertExactChances(int... weights) {
+        List<Weighted<Integer>> weighted = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < weights.length; ++i) {
+            weighted.add(new Weighted<>(i, weights[i]));
+            total += weights[i];
+        }
+        AliasTable<Integer> table = new AliasTable<>(weighted);
+
+        /* Counts the heights of each item over all columns */
+        Map<Integer, Long> heights = new HashMap<>();
+        for (int column = 0; column < weights.length; ++column) {
+            long start = 0;
+            Integer current = table.at(column, 0);
+            for (long cut : cuts(table, column, total)) {
+                heights.merge(current, cut - start, Long::sum);
+                start = cut;
+                if (cut < total)
+                    current = table.at(column, cut);
+            }
+        }
+
+        for (int i = 0; i < weights.length; ++i) {
+            assertEquals(
+                "weight of item " + i,
+                (long) weights[i] * weights.length,
+                heights.getOrDefault(i, 0L).longValue());
+        }
+    }
+
+    /* Where in a column the item chosen changes, then the column's top */
+    private static List<Long> cuts(
+        AliasTable<Integer> table,
+        int column,
+        long total) {
+
+        List<Long> cuts = new ArrayList<>();
+        Integer bottom = table.at(column, 0);
+        long low = 0;
+        long high = total;
+        if (table.at(column, total - 1).equals(bottom)) {
+            cuts.add(total);
+            return cuts;
+        }
+        while (high - low > 1) {
+            long middle = low + (high - low) / 2;
+            if (table.at(column, middle).equals(bottom))
+                low = middle;
+            else
+                high = middle;
+        }
+        cuts.add(high);
+        cuts.add(total);
+        return cuts;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Test;
+
+public class ChoiceTapeTest {
+    @Test public void replayingRecordedDrawsRegeneratesValues() {
+        ChoiceTape recorder = new ChoiceTape();
+        SourceOfRandomness random = new SourceOfRandomness(recorder);
+
+        recorder.startRecording();
+        int i = random.nextInt(-1000, 1000);
+        double d = random.nextDouble();
+        long[] draws = recorder.stopRecording();
+
+        ChoiceTape replayer = new ChoiceTape();
+        SourceOfRandomness replaying = new SourceOfRandomness(replayer);
+        replayer.startReplaying(draws, 0);
+
+        assertEquals(i, replaying.nextInt(-1000, 1000));
+        assertEquals(d, replaying.nextDouble(), 0);
+        assertArrayEquals(draws, replayer.stopRecording());
+    }
+
+    @Test public void drawsPastTheReplayedOnesAreZero() {
+        ChoiceTape replayer = new ChoiceTape();
+        SourceOfRandomness replaying = new SourceOfRandomness(replayer);
+        replayer.startReplaying(new long[0], 2);
+
+        assertFalse(replaying.nextBoolean());
+        assertEquals(-5, replaying.nextInt(-5, 5));
+        assertArrayEquals(new long[] { 0, 0 }, replayer.stopRecording());
+    }
+
+    @Test public void tooManyDrawsPastTheReplayedOnes() {
+        ChoiceTape replayer = new ChoiceTape();
+        SourceOfRandomness replaying = new SourceOfRandomness(replayer);
+        replayer.startReplaying(new long[0], 1);
+
+        assertThrows(ChoiceTape.Overrun.class, replaying::nextLong);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+
+public class ChoicesTest {
+    @Test public void noShrinksOfNoDraws() {
+        assertThat(new Choices(new long[0], 0).shrinks().collect(toList()), empty());
+    }
+
+    @Test public void shrinksDeleteThenZeroThenLower() {
+        List<long[]> shrinks =
+            new Choices(new long[] { 4, 0 }, 1).shrinks()
+                .map(Choices::draws)
+                .collect(toList());
+
+        assertArrayEquals(
+            new long[][] {
+                {},
+                { 0 },
+                { 4 },
+                { 0, 0 },
+                { 0, 0 },
+                { 2, 0 },
+                { 3, 0 }
+            },
+            shrinks.toArray(new long[0][]));
+    }
+
+    @Test public void shrinksKeepAttempts() {
+        assertThat(
+            new Choices(new long[] { 2 }, 7).shrinks()
+                .map(Choices::attempts)
+                .collect(toList()),
+            contains(7, 7, 7));
+    }
+
+    @Test public void shorterDrawsAreSimpler() {
+        assertTrue(
+            new Choices(new long[] { 9 }, 0)
+                .simplerThan(new Choices(new long[] { 1, 1 }, 0)));
+    }
+
+    @Test public void lesserDrawsOfEqualLengthAreSimpler() {
+        assertTrue(
+            new Choices(new long[] { 1, 2 }, 0)
+                .simplerThan(new Choices(new long[] { 1, 3 }, 0)));
+        assertFalse(
+            new Choices(new long[] { 1, 3 }, 0)
+                .simplerThan(new Choices(new long[] { 1, 2 }, 0)));
+    }
+
+    @Test public void drawsAreNotSimplerThanThemselves() {
+        assertFalse(
+            new Choices(new long[] { 1, 2 }, 0)
+                .simplerThan(new Choices(new long[] { 1, 2 }, 0)));
+    }
+}
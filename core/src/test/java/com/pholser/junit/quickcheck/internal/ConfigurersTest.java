@@ -0,0 +1,140 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.test.generator.Between;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.util.Map;
+import org.junit.Test;
+
+public class ConfigurersTest {
+    public static int plain;
+    @Between(min = 1, max = 2) public static int between;
+    @Between(min = 1, max = 2) public static int sameBetween;
+    @OneOrTwo public static int oneOrTwo;
+    @Deprecated public static int unconfigured;
+
+    @Test public void noAnnotations() throws Exception {
+        assertEquals(0, configurationsOn("plain").size());
+    }
+
+    @Test public void noConfigurationAnnotations() throws Exception {
+        assertEquals(0, configurationsOn("unconfigured").size());
+    }
+
+    @Test public void configurationAnnotation() throws Exception {
+        Map<Class<? extends Annotation>, Annotation> configurations =
+            configurationsOn("between");
+
+        assertEquals(1, configurations.size());
+        assertEquals(1, ((Between) configurations.get(Between.class)).min());
+    }
+
+    @Test public void metaConfigurationAnnotation() throws Exception {
+        Map<Class<? extends Annotation>, Annotation> configurations =
+            configurationsOn("oneOrTwo");
+
+        assertEquals(1, configurations.size());
+        assertEquals(2, ((Between) configurations.get(Between.class)).max());
+    }
+
+    @Test public void sameAnnotationsSameConfigurations() throws Exception {
+        assertEquals(
+            configurationsOn("between"),
+            configurationsOn("sameBetween"));
+    }
+
+    @Test public void configuring() throws Exception {
+        Configurable target = new Configurable();
+        Between between = between();
+
+        assertTrue(Configurers.configure(target, Between.class, between));
+        assertSame(between, target.between);
+    }
+
+    @Test public void configuringAgain() throws Exception {
+        Configurable first = new Configurable();
+        Configurable second = new Configurable();
+        Between between = between();
+
+        Configurers.configure(first, Between.class, between);
+        Configurers.configure(second, Between.class, between);
+
+        assertSame(between, second.between);
+    }
+
+    @Test public void noConfigurer() throws Exception {
+        Between between = between();
+
+        assertFalse(
+            Configurers.configure(new Object(), Between.class, between));
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void configurerRaisesException() throws Exception {
+        Between between = between();
+
+        Configurers.configure(new Unconfigurable(), Between.class, between);
+    }
+
+    private Between between() throws Exception {
+        return (Between) configurationsOn("between").get(Between.class);
+    }
+
+    private Map<Class<? extends Annotation>, Annotation> configurationsOn(
+        String fieldName)
+        throws Exception {
+
+        return Configurers.configurationAnnotations(
+            getClass().getField(fieldName));
+    }
+
+    @Retention(RUNTIME)
+    @Between(min = 1, max = 2)
+    public @interface OneOrTwo {
+    }
+
+    public static class Configurable {
+        Between between;
+
+        public void configure(Between between) {
+            this.between = between;
+        }
+    }
+
+    public static class Unconfigurable {
+        public void configure(Between between) {
+            throw new IllegalStateException();
+        }
+    }
+}
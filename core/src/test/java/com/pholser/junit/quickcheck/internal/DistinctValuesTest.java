@@ -0,0 +1,87 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.pholser.junit.quickcheck.internal.DistinctValues.ExhaustedException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+public class DistinctValuesTest {
+    @Test public void fillingWithDuplicatesAlongTheWay() {
+        Set<Integer> values = new HashSet<>();
+        int[] next = { 0 };
+
+        int added = DistinctValues.fill(4, 4, i -> values.add(next[0]++ / 3));
+
+        assertEquals(4, added);
+        assertEquals(4, values.size());
+    }
+
+    @Test public void settlingForWhatTheDomainAllows() {
+        Set<Boolean> values = new HashSet<>();
+        boolean[] next = { false };
+
+        int added = DistinctValues.fill(5, 2, i -> {
+            next[0] = !next[0];
+            return values.add(next[0]);
+        });
+
+        assertEquals(2, added);
+    }
+
+    @Test public void givingUpWhenTheDomainIsExhausted() {
+        int[] attempts = { 0 };
+
+        ExhaustedException ex =
+            assertThrows(
+                ExhaustedException.class,
+                () -> DistinctValues.fill(3, 3, i -> ++attempts[0] == 1));
+
+        assertThat(ex.getMessage(), containsString("gave up with 1"));
+        assertEquals(
+            2 + DistinctValues.maxDuplicatesInARow(3),
+            attempts[0]);
+    }
+
+    @Test public void attemptsToldHowManyValuesAddedSoFar() {
+        int[] seen = new int[3];
+
+        DistinctValues.fill(3, 3, i -> {
+            ++seen[i];
+            return true;
+        });
+
+        assertEquals(1, seen[0]);
+        assertEquals(1, seen[1]);
+        assertEquals(1, seen[2]);
+    }
+}
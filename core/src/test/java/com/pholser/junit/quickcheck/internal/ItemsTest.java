@@ -30,6 +30,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
@@ -65,13 +66,13 @@ public class ItemsTest {
     }
 
     @Test public void singleWeightedItem() {
-        when(random.nextInt(2)).thenReturn(1);
-
         assertEquals("a", Items.chooseWeighted(singletonList(first), random));
+        verifyNoInteractions(random);
     }
 
     @Test public void choosingFirstOfManyWeightedItems() {
-        when(random.nextInt(9)).thenReturn(0).thenReturn(1);
+        when(random.nextInt(3)).thenReturn(0);
+        when(random.nextLong(0, 8)).thenReturn(0L).thenReturn(5L);
 
         assertEquals(
             "a",
@@ -82,7 +83,7 @@ public class ItemsTest {
     }
 
     @Test public void choosingMiddleOfManyWeightedItems() {
-        when(random.nextInt(9)).thenReturn(2).thenReturn(3).thenReturn(4);
+        when(random.nextInt(3)).thenReturn(1);
 
         assertEquals(
             "b",
@@ -90,14 +91,12 @@ public class ItemsTest {
         assertEquals(
             "b",
             Items.chooseWeighted(asList(first, second, third), random));
-        assertEquals(
-            "b",
-            Items.chooseWeighted(asList(first, second, third), random));
     }
 
     @Test public void choosingLastOfManyWeightedItems() {
-        when(random.nextInt(9))
-            .thenReturn(5).thenReturn(6).thenReturn(7).thenReturn(8);
+        when(random.nextInt(3))
+            .thenReturn(2).thenReturn(0).thenReturn(2).thenReturn(0);
+        when(random.nextLong(0, 8)).thenReturn(6L).thenReturn(8L);
 
         assertEquals(
             "c",
@@ -120,10 +119,8 @@ public class ItemsTest {
     }
 
     @Test public void choosingWeightedFromEmptyCollection() {
-        AssertionError ex =
-            assertThrows(
-                AssertionError.class,
-                () -> Items.chooseWeighted(emptyList(), random));
-        assertEquals("sample = 0, range = 0", ex.getMessage());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Items.chooseWeighted(emptyList(), random));
     }
 }
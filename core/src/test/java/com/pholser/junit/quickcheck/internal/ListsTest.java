@@ -29,13 +29,17 @@ import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Sets.newHashSet;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assume.assumeThat;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -87,6 +91,26 @@ public class ListsTest {
             Lists.removeFrom(newArrayList('a', 'b'), 3));
     }
 
+    @Test public void removalsOfRunsFromAList() {
+        assertEquals(
+            newArrayList(
+                newArrayList(3, 4, 5, 6, 7),
+                newArrayList(1, 2, 5, 6, 7),
+                newArrayList(1, 2, 3, 4, 7)),
+            Lists.removeFrom(newArrayList(1, 2, 3, 4, 5, 6, 7), 2));
+    }
+
+    @Test public void lazyRemovalsFromAListAreBuiltWhenAskedFor() {
+        List<Integer> target = newArrayList(1, 2, 3, 4);
+
+        Iterator<List<Integer>> removals =
+            Lists.removeFromLazily(target, 1).iterator();
+        assertEquals(newArrayList(2, 3, 4), removals.next());
+
+        target.set(3, 5);
+        assertEquals(newArrayList(1, 3, 5), removals.next());
+    }
+
     @Test public void shrinksOfEmptyList() {
         assertEquals(
             emptyList(),
@@ -113,4 +137,25 @@ public class ListsTest {
                 newArrayList(1, 2, 5)),
             shrinks);
     }
+
+    @Test public void lazyShrinksOfNonEmptyListShrinkItemsWhenAskedFor() {
+        List<Integer> shrunk = new ArrayList<>();
+
+        Stream<List<Integer>> shrinks =
+            Lists.shrinksOfOneItemLazily(
+                random,
+                newArrayList(1, 2, 3),
+                (r, i) -> {
+                    shrunk.add((Integer) i);
+                    return newArrayList(4, 5);
+                });
+
+        assertEquals(
+            newArrayList(
+                newArrayList(4, 2, 3),
+                newArrayList(5, 2, 3),
+                newArrayList(1, 4, 3)),
+            shrinks.limit(3).collect(toList()));
+        assertEquals(newArrayList(1, 2), shrunk);
+    }
 }
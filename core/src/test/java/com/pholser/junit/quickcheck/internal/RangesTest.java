@@ -25,25 +25,29 @@
 
 package com.pholser.junit.quickcheck.internal;
 
-import static com.pholser.junit.quickcheck.internal.Ranges.findNextPowerOfTwoLong;
+import static com.pholser.junit.quickcheck.internal.Ranges.unsignedMultiplyHigh;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.math.BigInteger;
 import java.util.Random;
 import org.junit.Test;
 
 public class RangesTest {
-    @Test public void checkFindNextPowerOfTwoLong() {
-        assertEquals(1, findNextPowerOfTwoLong(1));
-        assertEquals(2, findNextPowerOfTwoLong(2));
-        assertEquals(4, findNextPowerOfTwoLong(3));
-        assertEquals(4, findNextPowerOfTwoLong(4));
-        assertEquals(8, findNextPowerOfTwoLong(5));
-        assertEquals((long) 1 << 61, findNextPowerOfTwoLong((long) 1 << 61));
-        assertEquals(
-            (long) 1 << 62,
-            findNextPowerOfTwoLong(1 + (long) 1 << 61));
+    @Test public void checkUnsignedMultiplyHigh() {
+        long[] factors = {
+            0, 1, 2, 0xFFFFFFFFL, 1L << 32, Long.MAX_VALUE, Long.MIN_VALUE, -1,
+            0x9E3779B97F4A7C15L, 0x123456789ABCDEFL
+        };
+
+        for (long x : factors) {
+            for (long y : factors) {
+                assertEquals(
+                    unsigned(x).multiply(unsigned(y)).shiftRight(64).longValue(),
+                    unsignedMultiplyHigh(x, y));
+            }
+        }
     }
 
     @Test public void chooseLongsMustReturnValuesInTheExpectedRange() {
@@ -52,6 +56,45 @@ public class RangesTest {
         assertRangeOfRandomLong(Long.MIN_VALUE, Long.MIN_VALUE + 1);
         assertRangeOfRandomLong(Long.MAX_VALUE - 1, Long.MAX_VALUE);
         assertRangeOfRandomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        assertRangeOfRandomLong(Long.MIN_VALUE, Long.MAX_VALUE - 1);
+        assertRangeOfRandomLong(-1L << 62, 1L << 62);
+        assertRangeOfRandomLong(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertRangeOfRandomLong(0, 1L << 32);
+    }
+
+    @Test public void chooseMomentsMustReturnValuesInTheExpectedRange() {
+        assertRangeOfRandomMoment(0, 999_999_999, 1, 0);
+        assertRangeOfRandomMoment(-5, 3, -5, 3);
+        assertRangeOfRandomMoment(-1, 5, 1, 7);
+        assertRangeOfRandomMoment(
+            -31_557_014_167_219_200L,
+            0,
+            31_556_889_864_403_199L,
+            999_999_999);
+        assertRangeOfRandomMoment(
+            Long.MIN_VALUE,
+            0,
+            Long.MAX_VALUE,
+            999_999_999);
+        assertRangeOfRandomMoment(
+            Long.MIN_VALUE,
+            999_999_999,
+            Long.MIN_VALUE + 10_000_000_000L,
+            0);
+    }
+
+    @Test public void chooseMomentsReachBothEndsOfANarrowInterval() {
+        SourceOfRandomness random = new SourceOfRandomness(new Random(0));
+        boolean[] hits = new boolean[2];
+
+        for (int i = 0; i < 100; ++i) {
+            long seconds =
+                Ranges.choose(random, 0, 999_999_999, 1, 0, (s, n) -> s);
+            hits[(int) seconds] = true;
+        }
+
+        assertTrue(hits[0]);
+        assertTrue(hits[1]);
     }
 
     @Test public void weakSanityCheckForDistributionOfChooseLongs() {
@@ -68,6 +111,40 @@ public class RangesTest {
         }
     }
 
+    private void assertRangeOfRandomMoment(
+        long minSeconds,
+        long minNanos,
+        long maxSeconds,
+        long maxNanos) {
+
+        SourceOfRandomness random = new SourceOfRandomness(new Random(0));
+        BigInteger min = nanos(minSeconds, minNanos);
+        BigInteger max = nanos(maxSeconds, maxNanos);
+
+        for (int i = 0; i < 1000; i++) {
+            BigInteger result =
+                Ranges.choose(
+                    random,
+                    minSeconds,
+                    minNanos,
+                    maxSeconds,
+                    maxNanos,
+                    RangesTest::nanos);
+            assertTrue(
+                min.compareTo(result) <= 0 && result.compareTo(max) <= 0);
+        }
+    }
+
+    private static BigInteger nanos(long seconds, long nanos) {
+        return BigInteger.valueOf(seconds)
+            .multiply(BigInteger.valueOf(1_000_000_000))
+            .add(BigInteger.valueOf(nanos));
+    }
+
+    private static BigInteger unsigned(long n) {
+        return new BigInteger(Long.toUnsignedString(n));
+    }
+
     private void assertRangeOfRandomLong(long min, long max) {
         SourceOfRandomness random = new SourceOfRandomness(new Random(0));
         for (int i = 0; i < 1000; i++) {
@@ -46,6 +46,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -131,6 +132,35 @@ public class ReflectionTest {
             () -> instantiate(InvocationTargetProblematic.class));
     }
 
+    @Test public void
+    invokingZeroArgConstructorWrapsCheckedExceptionsRaisedByConstructor() {
+        ReflectionException ex =
+            assertThrows(
+                ReflectionException.class,
+                () -> instantiate(CheckedInvocationTargetProblematic.class));
+        assertThat(
+            ex.getMessage(),
+            containsString(InterruptedException.class.getName()));
+    }
+
+    @Test public void invokingZeroArgConstructorMakesNewInstances() {
+        Instantiable first = instantiate(Instantiable.class);
+        Instantiable second = instantiate(Instantiable.class);
+
+        assertNotSame(first, second);
+    }
+
+    public static class CheckedInvocationTargetProblematic {
+        public CheckedInvocationTargetProblematic()
+            throws InterruptedException {
+
+            throw new InterruptedException();
+        }
+    }
+
+    public static class Instantiable {
+    }
+
     private abstract static class MultiArgInstantiationProblematic {
         public MultiArgInstantiationProblematic(int i) {
             // no-op
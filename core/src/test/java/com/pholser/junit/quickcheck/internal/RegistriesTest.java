@@ -0,0 +1,102 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.pholser.junit.quickcheck.internal.Registries.Table;
+import java.nio.charset.Charset;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TimeZone;
+import org.junit.Test;
+
+public class RegistriesTest {
+    @Test public void zoneIdsInOrderOfId() {
+        List<String> ids = new ArrayList<>(ZoneId.getAvailableZoneIds());
+        ids.sort(null);
+
+        assertEquals(ids, ids(Registries.zoneIds()));
+    }
+
+    @Test public void charsetsInOrderOfName() {
+        assertEquals(
+            new ArrayList<>(Charset.availableCharsets().values()),
+            values(Registries.charsets()));
+    }
+
+    @Test public void locales() {
+        assertEquals(
+            Arrays.asList(Locale.getAvailableLocales()),
+            values(Registries.locales()));
+    }
+
+    @Test public void timeZones() {
+        List<String> ids = new ArrayList<>();
+        for (TimeZone each : values(Registries.timeZones()))
+            ids.add(each.getID());
+
+        assertEquals(Arrays.asList(TimeZone.getAvailableIDs()), ids);
+    }
+
+    @Test public void currenciesInOrderOfCode() {
+        Set<Currency> currencies =
+            new HashSet<>(values(Registries.currencies()));
+        assertEquals(Currency.getAvailableCurrencies(), currencies);
+
+        List<String> codes = new ArrayList<>();
+        for (Currency each : values(Registries.currencies()))
+            codes.add(each.getCurrencyCode());
+        List<String> sorted = new ArrayList<>(codes);
+        sorted.sort(null);
+        assertEquals(sorted, codes);
+    }
+
+    @Test public void tablesAreBuiltOnce() {
+        assertSame(Registries.zoneIds(), Registries.zoneIds());
+    }
+
+    private static List<String> ids(Table<ZoneId> zones) {
+        List<String> ids = new ArrayList<>();
+        for (ZoneId each : values(zones))
+            ids.add(each.getId());
+        return ids;
+    }
+
+    private static <T> List<T> values(Table<T> table) {
+        List<T> values = new ArrayList<>();
+        for (int i = 0; i < table.size(); ++i)
+            values.add(table.get(i));
+        return values;
+    }
+}
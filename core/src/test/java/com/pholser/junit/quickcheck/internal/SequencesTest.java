@@ -26,6 +26,7 @@
 package com.pholser.junit.quickcheck.internal;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 
@@ -33,9 +34,33 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.Test;
 
 public class SequencesTest {
+    @Test public void concatenating() {
+        assertEquals(
+            newArrayList(1, 2, 2, 3, 3, 3),
+            Sequences.concatenating(4, i -> Stream.generate(() -> i).limit(i))
+                .collect(toList()));
+    }
+
+    @Test public void concatenatingAsksForStreamsOnlyWhenNeeded() {
+        AtomicInteger built = new AtomicInteger();
+        Iterator<Integer> concatenated =
+            Sequences.concatenating(
+                1000,
+                i -> IntStream.range(0, 1000)
+                    .peek(j -> built.incrementAndGet())
+                    .boxed())
+                .iterator();
+
+        assertEquals(Integer.valueOf(0), concatenated.next());
+        assertEquals(1, built.get());
+    }
+
     @Test public void halvingBigIntegers() {
         assertEquals(
             newArrayList(
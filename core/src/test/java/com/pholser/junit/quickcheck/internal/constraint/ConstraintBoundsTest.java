@@ -0,0 +1,137 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.generator.Bounds;
+import java.math.BigInteger;
+import org.junit.Test;
+
+public class ConstraintBoundsTest {
+    @Test public void noConstraint() {
+        assertTrue(ConstraintBounds.of(null).isNone());
+    }
+
+    @Test public void malformedConstraint() {
+        assertTrue(ConstraintBounds.of("#_ !*@&#^*").isNone());
+    }
+
+    @Test public void conjunctionOfComparisons() {
+        Bounds bounds = ConstraintBounds.of("#_ > 0 && #_ < 100");
+
+        assertEquals(1L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(99L, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void constantOnTheLeft() {
+        Bounds bounds = ConstraintBounds.of("-5 <= #_ and 5 >= #_");
+
+        assertEquals(-5L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(5L, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void equality() {
+        Bounds bounds = ConstraintBounds.of("#_ == 7");
+
+        assertEquals(7L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(7L, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void bigConstants() {
+        Bounds bounds = ConstraintBounds.of("#_ gte 123456789012345678901H");
+
+        assertEquals(
+            new BigInteger("123456789012345678901"),
+            bounds.narrowMin((BigInteger) null));
+    }
+
+    @Test public void fractionalConstants() {
+        Bounds bounds = ConstraintBounds.of("#_ >= 0.25 && #_ < 0.75");
+
+        assertEquals(0.25, bounds.narrowMin(0D), 0);
+        assertEquals(0.75, bounds.narrowMax(1D), 0);
+    }
+
+    @Test public void otherConjunctsAllowAnything() {
+        Bounds bounds =
+            ConstraintBounds.of("#_ > 0 && #_ % 2 == 0 && #_ != 8");
+
+        assertEquals(1L, bounds.narrowMin(Long.MIN_VALUE));
+        assertEquals(Long.MAX_VALUE, bounds.narrowMax(Long.MAX_VALUE));
+    }
+
+    @Test public void disjunctionsAllowAnything() {
+        assertTrue(ConstraintBounds.of("#_ < 0 || #_ > 10").isNone());
+        assertTrue(ConstraintBounds.of("!(#_ > 10)").isNone());
+    }
+
+    @Test public void comparisonsOfOtherThingsAllowAnything() {
+        assertTrue(ConstraintBounds.of("#_.foo > 3").isNone());
+        assertTrue(ConstraintBounds.of("#x > 3").isNone());
+        assertTrue(ConstraintBounds.of("#_ > 'a'").isNone());
+        assertTrue(ConstraintBounds.of("#_.length(2) > 3").isNone());
+    }
+
+    @Test public void lengths() {
+        Bounds bounds =
+            ConstraintBounds.of("#_.length() > 2 && #_.length() <= 10");
+
+        assertEquals(3, bounds.narrowMinSize(0));
+        assertEquals(10, bounds.narrowMaxSize(Integer.MAX_VALUE));
+        assertNull(bounds.narrowMin((BigInteger) null));
+    }
+
+    @Test public void sizes() {
+        Bounds bounds = ConstraintBounds.of("#_.size() >= 1 and #_.size < 4");
+
+        assertEquals(1, bounds.narrowMinSize(0));
+        assertEquals(3, bounds.narrowMaxSize(Integer.MAX_VALUE));
+    }
+
+    @Test public void arrayLengths() {
+        Bounds bounds = ConstraintBounds.of("#_.length == 4");
+
+        assertEquals(4, bounds.narrowMinSize(0));
+        assertEquals(4, bounds.narrowMaxSize(Integer.MAX_VALUE));
+    }
+
+    @Test public void negativeSizeBounds() {
+        assertEquals(0, ConstraintBounds.of("#_.size() > -3").narrowMinSize(0));
+        assertEquals(
+            -1,
+            ConstraintBounds.of("#_.size() < 0").narrowMaxSize(5));
+    }
+
+    @Test public void analyzesEachConstraintOnce() {
+        assertSame(
+            ConstraintBounds.of("#_ > 0"),
+            ConstraintBounds.of("#_ > 0"));
+    }
+}
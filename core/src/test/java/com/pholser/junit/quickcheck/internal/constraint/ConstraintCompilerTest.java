@@ -0,0 +1,127 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import ognl.Node;
+import ognl.Ognl;
+import org.junit.Test;
+
+public class ConstraintCompilerTest {
+    private static final List<Object> VALUES =
+        asList(
+            -7, 0, 3, 12, -2L, 40L, 2.5, -0.5F, (byte) 9, (short) -4,
+            'a', true, false, "", "abc",
+            new BigInteger("123456789012345678901"),
+            new BigDecimal("-3.25"));
+
+    private static final List<String> COMPILED =
+        asList(
+            "#_ > 0",
+            "#_ >= 3 && #_ <= 12",
+            "#_ < -1 || #_ > 10",
+            "#_ == 3",
+            "#_ != 0",
+            "!(#_ > 0)",
+            "-#_ > 2",
+            "#_ * 2 + 1 > 7",
+            "#_ - 1 < 0",
+            "#_ % 2 == 1",
+            "#_ / 2 > 1",
+            "#_ > 0 ? #_ < 10 : #_ > -5",
+            "#_ == 'abc'",
+            "#_ == null",
+            "#_ and true",
+            "#_ or false",
+            "#_ + 1 + 2 + 3 > 5",
+            "#_ gt 2 and #_ lt 20",
+            "true");
+
+    @Test public void compilesSimpleExpressions() throws Exception {
+        for (String each : COMPILED)
+            assertNotNull(each, compile(each));
+    }
+
+    @Test public void leavesOtherExpressionsToOgnl() throws Exception {
+        for (String each : asList(
+            "#_.length() > 2",
+            "#_.foo == 'bar'",
+            "#x == -3",
+            "#this > 0",
+            "#_ in {1, 2}",
+            "#_ instanceof Integer",
+            "(#_ & 1) == 0",
+            "@java.lang.Math@abs(#_) > 2")) {
+
+            assertNull(each, compile(each));
+        }
+    }
+
+    @Test public void agreesWithOgnl() throws Exception {
+        for (String expression : COMPILED) {
+            Function<Object, Object> compiled = compile(expression);
+
+            for (Object value : VALUES) {
+                assertEquals(
+                    expression + " for " + value,
+                    outcome(() -> Ognl.getValue(
+                        Ognl.parseExpression(expression),
+                        Collections.singletonMap("_", value),
+                        (Object) null)),
+                    outcome(() -> compiled.apply(value)));
+            }
+        }
+    }
+
+    private static Function<Object, Object> compile(String expression)
+        throws Exception {
+
+        return ConstraintCompiler.compile(
+            (Node) Ognl.parseExpression(expression));
+    }
+
+    private static Object outcome(Evaluation evaluation) {
+        try {
+            return evaluation.evaluate();
+        } catch (Exception ex) {
+            return ex.getClass();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Evaluation {
+        Object evaluate() throws Exception;
+    }
+}
@@ -52,6 +52,36 @@ public class ConstraintEvaluatorTest {
         assertFalse(evaluator.evaluate());
     }
 
+    @Test public void compilesSimpleExpressions() {
+        assertTrue(evaluator.compiled());
+    }
+
+    @Test public void interpretsOtherExpressionsWithOgnl() {
+        evaluator = new ConstraintEvaluator("#_.length() > 2");
+
+        assertFalse(evaluator.compiled());
+
+        evaluator.bind("abc");
+        assertTrue(evaluator.evaluate());
+        evaluator.bind("ab");
+        assertFalse(evaluator.evaluate());
+    }
+
+    @Test public void evaluatesCompiledExpressionsWithEachBoundValue() {
+        ConstraintEvaluator another = new ConstraintEvaluator("#_ > 0");
+        evaluator.bind(1);
+        another.bind(-1);
+
+        assertTrue(evaluator.evaluate());
+        assertFalse(another.evaluate());
+    }
+
+    @Test public void whenThereIsNoExpression() {
+        evaluator = new ConstraintEvaluator(null);
+
+        assertTrue(evaluator.evaluate());
+    }
+
     @Test public void whenExpressionIsMalformed() {
         assertThrows(
             EvaluationException.class,
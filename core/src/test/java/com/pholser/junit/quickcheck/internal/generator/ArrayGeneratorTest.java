@@ -25,9 +25,23 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.pholser.junit.quickcheck.generator.Distinct;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.GeometricDistribution;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -50,4 +64,114 @@ public class ArrayGeneratorTest {
     capabilityOfShrinkingArrayOfEquivalentWrapperComponentType() {
         assertFalse(intArrayGenerator.canShrink(new Integer[0]));
     }
+
+    @Test public void shrinkingPrimitiveArrays() {
+        ArrayGenerator generator =
+            new ArrayGenerator(int.class, new HalvingInts());
+
+        List<Object> shrinks =
+            generator.doShrink(random(), new int[] { 1, 2, 3, 4 });
+
+        assertEquals(
+            asList(
+                "[]",
+                "[3, 4]",
+                "[1, 2]",
+                "[2, 3, 4]",
+                "[1, 3, 4]",
+                "[1, 2, 4]",
+                "[1, 2, 3]",
+                "[0, 2, 3, 4]",
+                "[1, 1, 3, 4]",
+                "[1, 2, 1, 4]",
+                "[1, 2, 3, 2]"),
+            asStrings(shrinks));
+    }
+
+    @Test public void shrinkingDistinctPrimitiveArrays() {
+        ArrayGenerator generator =
+            new ArrayGenerator(int.class, new HalvingInts());
+        generator.configure(distinct());
+
+        List<Object> shrinks =
+            generator.doShrink(random(), new int[] { 1, 2 });
+
+        assertEquals(
+            asList("[]", "[2]", "[1]", "[0, 2]"),
+            asStrings(shrinks));
+    }
+
+    @Test public void generatingDistinctPrimitiveArrays() {
+        ArrayGenerator generator =
+            new ArrayGenerator(int.class, new HalvingInts());
+        generator.configure(distinct());
+
+        int[] values = (int[]) generator.generate(random(), status(3));
+
+        Arrays.sort(values);
+        assertArrayEquals(new int[] { 0, 1, 2 }, values);
+    }
+
+    @Test public void primitiveElementsAreDistinctAsTheirWrappersAre() {
+        ArrayElements doubles = ArrayElements.of(double.class);
+
+        assertTrue(doubles.isDistinct(new double[] { 0.0, -0.0 }));
+        assertFalse(
+            doubles.isDistinct(new double[] { Double.NaN, Double.NaN }));
+        assertFalse(
+            ArrayElements.of(char.class).isDistinct(new char[] { 'a', 'a' }));
+        assertTrue(
+            ArrayElements.of(boolean.class)
+                .isDistinct(new boolean[] { true, false }));
+    }
+
+    private static SourceOfRandomness random() {
+        return new SourceOfRandomness(new Random(1));
+    }
+
+    private static GenerationStatus status(int size) {
+        return new SimpleGenerationStatus(
+            new GeometricDistribution(),
+            random(),
+            0) {
+
+            @Override public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static Distinct distinct() {
+        return new Distinct() {
+            @Override public Class<Distinct> annotationType() {
+                return Distinct.class;
+            }
+        };
+    }
+
+    private static List<String> asStrings(List<Object> arrays) {
+        return arrays.stream()
+            .map(a -> Arrays.toString((int[]) a))
+            .collect(toList());
+    }
+
+    private static class HalvingInts extends Generator<Integer> {
+        HalvingInts() {
+            super(Integer.class);
+        }
+
+        @Override public Integer generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return random.nextInt(0, 2);
+        }
+
+        @Override public List<Integer> doShrink(
+            SourceOfRandomness random,
+            Integer larger) {
+
+            return larger == 0 ? emptyList() : singletonList(larger / 2);
+        }
+    }
 }
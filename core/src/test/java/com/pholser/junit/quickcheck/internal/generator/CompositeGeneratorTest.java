@@ -85,7 +85,8 @@ public class CompositeGeneratorTest {
         when(third.canShrink(7)).thenReturn(true);
         when(first.types()).thenReturn(singletonList(Integer.class));
         when(first.doShrink(random, 7)).thenReturn(asList(3, 6));
-        when(random.nextInt(9)).thenReturn(1);
+        when(random.nextInt(2)).thenReturn(0);
+        when(random.nextLong(0, 8)).thenReturn(3L);
 
         assertEquals(asList(3, 6), composite.shrink(random, 7));
         verify(first, atLeastOnce()).doShrink(random, 7);
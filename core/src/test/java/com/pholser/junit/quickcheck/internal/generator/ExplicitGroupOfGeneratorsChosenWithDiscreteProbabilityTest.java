@@ -45,8 +45,9 @@ public class ExplicitGroupOfGeneratorsChosenWithDiscreteProbabilityTest
     public static final String TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(randomForParameterGenerator.nextInt(6))
-            .thenReturn(0).thenReturn(1).thenReturn(5);
+        when(randomForParameterGenerator.nextInt(3))
+            .thenReturn(0).thenReturn(1).thenReturn(2);
+        when(randomForParameterGenerator.nextLong(0, 5)).thenReturn(2L);
     }
 
     @Override protected int trials() {
@@ -58,7 +59,8 @@ public class ExplicitGroupOfGeneratorsChosenWithDiscreteProbabilityTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verify(randomForParameterGenerator, times(3)).nextInt(6);
+        verify(randomForParameterGenerator, times(3)).nextInt(3);
+        verify(randomForParameterGenerator).nextLong(0, 5);
     }
 
     public static class FooGenerator extends Generator<String> {
@@ -27,19 +27,24 @@ package com.pholser.junit.quickcheck.internal.generator;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 
 import com.pholser.junit.quickcheck.When;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ChoiceTape;
+import com.pholser.junit.quickcheck.internal.Choices;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
 import com.pholser.junit.quickcheck.internal.PropertyParameterContext;
+import com.pholser.junit.quickcheck.internal.SeededValue;
 import com.pholser.junit.quickcheck.internal.generator.PropertyParameterGenerationContext.DiscardRatioExceededException;
 import com.pholser.junit.quickcheck.internal.sampling.TupleParameterSampler;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Parameter;
+import java.util.Random;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -84,10 +89,75 @@ public class PropertyParameterGenerationContextTest {
             ex.getMessage());
     }
 
+    @Test public void replayingUnchangedDrawsReproducesValueCappedBySampleSize()
+        throws Exception {
+
+        PropertyParameterContext parameter =
+            new PropertyParameterContext(
+                ParameterTypeContext.forParameter(sizedParameter()))
+                    .annotate(sizedParameter());
+
+        PropertyParameterGenerationContext gen =
+            new PropertyParameterGenerationContext(
+                parameter,
+                new GeneratorRepository(random).register(new Sizes()),
+                new GeometricDistribution(),
+                new ChoiceTape(new Random(0)),
+                new TupleParameterSampler(2),
+                0);
+
+        Object last = null;
+        for (int i = 0; i < 50; ++i)
+            last = gen.generate();
+
+        assertEquals(
+            last,
+            gen.replay(gen.lastChoices()).map(SeededValue::value).get());
+    }
+
+    @Test public void replayDropsCandidatesDrawnOutOfRange() throws Exception {
+        PropertyParameterGenerationContext gen =
+            replayingWith(new OutOfRange());
+
+        assertFalse(gen.replay(new Choices(new long[0], 0)).isPresent());
+    }
+
+    @Test public void replayPropagatesOtherFailures() throws Exception {
+        PropertyParameterGenerationContext gen = replayingWith(new Broken());
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> gen.replay(new Choices(new long[0], 0)));
+    }
+
+    private PropertyParameterGenerationContext replayingWith(
+        Generator<String> generator)
+        throws Exception {
+
+        return new PropertyParameterGenerationContext(
+            new PropertyParameterContext(
+                ParameterTypeContext.forParameter(sizedParameter()))
+                    .annotate(sizedParameter()),
+            new GeneratorRepository(random).register(generator),
+            new GeometricDistribution(),
+            new ChoiceTape(new Random(0)),
+            new TupleParameterSampler(2),
+            0);
+    }
+
     public static void parameterHaver(
         @When(discardRatio = 3, satisfies = "#_ > 0") int x) {
     }
 
+    public static void sizedParameterHaver(String sizes) {
+    }
+
+    private Parameter sizedParameter() throws Exception {
+        return getClass()
+            .getMethod("sizedParameterHaver", String.class)
+            .getParameters()[0];
+    }
+
     private AnnotatedElement annotatedElement() throws Exception {
         return parameter();
     }
@@ -98,6 +168,45 @@ public class PropertyParameterGenerationContextTest {
             .getParameters()[0];
     }
 
+    public static class Sizes extends Generator<String> {
+        public Sizes() {
+            super(String.class);
+        }
+
+        @Override public String generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return status.size() + ":" + status.size() + ":" + random.nextInt();
+        }
+    }
+
+    public static class OutOfRange extends Generator<String> {
+        public OutOfRange() {
+            super(String.class);
+        }
+
+        @Override public String generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static class Broken extends Generator<String> {
+        public Broken() {
+            super(String.class);
+        }
+
+        @Override public String generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            throw new IllegalStateException();
+        }
+    }
+
     public static class Countdown extends Generator<Integer> {
         private int count = 10;
 
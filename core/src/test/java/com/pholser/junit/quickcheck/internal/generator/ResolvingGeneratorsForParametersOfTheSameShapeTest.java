@@ -0,0 +1,126 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static com.pholser.junit.quickcheck.Types.typeOf;
+import static com.pholser.junit.quickcheck.internal.generator.Generators.assertGenerators;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ParameterTypeContext;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.ABox;
+import com.pholser.junit.quickcheck.test.generator.AnInt;
+import com.pholser.junit.quickcheck.test.generator.Between;
+import com.pholser.junit.quickcheck.test.generator.Box;
+import java.lang.reflect.Field;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class ResolvingGeneratorsForParametersOfTheSameShapeTest {
+    @Rule public final MockitoRule mockito = MockitoJUnit.rule();
+
+    public static Box<@Between(min = 1, max = 1) Integer> first;
+    public static Box<@Between(min = 1, max = 1) Integer> second;
+    public static Box<@Between(min = 2, max = 2) Integer> other;
+    public static Number n;
+    public static Integer i;
+
+    @Mock private SourceOfRandomness random;
+
+    private GeneratorRepository repo;
+
+    @Before public void beforeEach() {
+        repo = new GeneratorRepository(random)
+            .register(new ABox())
+            .register(new AnInt())
+            .register(new ZilchGenerator());
+
+        when(random.nextInt(1, 1)).thenReturn(1);
+        when(random.nextInt(2, 2)).thenReturn(2);
+    }
+
+    @Test public void givesEachParameterItsOwnGenerators() throws Exception {
+        Generator<?> firstGen =
+            repo.produceGenerator(typeOf(getClass(), "first"));
+        Generator<?> secondGen =
+            repo.produceGenerator(typeOf(getClass(), "second"));
+
+        assertNotSame(firstGen, secondGen);
+        assertEquals(1, contentsOf(firstGen));
+        assertEquals(1, contentsOf(secondGen));
+    }
+
+    @Test public void configuresEachParameterOnItsOwn() throws Exception {
+        Generator<?> firstGen =
+            repo.produceGenerator(typeOf(getClass(), "first"));
+        Generator<?> otherGen =
+            repo.produceGenerator(typeOf(getClass(), "other"));
+
+        assertEquals(2, contentsOf(otherGen));
+        assertEquals(1, contentsOf(firstGen));
+    }
+
+    @Test public void keepsChoosingAmongCandidatesAtRandom() throws Exception {
+        repo.register(new AnotherInt());
+
+        Field n = getClass().getField("n");
+
+        repo.generatorFor(ParameterTypeContext.forField(n));
+        repo.generatorFor(ParameterTypeContext.forField(n));
+
+        verify(random, times(2)).nextInt(2);
+    }
+
+    @Test public void registeringMoreGeneratorsResolvesAfresh()
+        throws Exception {
+
+        assertTrue(repo.generatorFor(typeOf(getClass(), "i")) instanceof AnInt);
+
+        repo.register(new AnotherInt());
+
+        assertGenerators(
+            repo.generatorFor(typeOf(getClass(), "i")),
+            AnInt.class,
+            AnotherInt.class);
+    }
+
+    private Object contentsOf(Generator<?> generator) {
+        return ((Box<?>) generator.generate(random, null)).contents();
+    }
+
+    public static class AnotherInt extends AnInt {
+    }
+}
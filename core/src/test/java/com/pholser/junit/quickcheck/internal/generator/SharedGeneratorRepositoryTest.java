@@ -0,0 +1,115 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import static com.pholser.junit.quickcheck.Types.typeOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.AFoo;
+import com.pholser.junit.quickcheck.test.generator.AnInt;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import java.net.URL;
+import java.net.URLClassLoader;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class SharedGeneratorRepositoryTest {
+    @Rule public final MockitoRule mockito = MockitoJUnit.rule();
+
+    public static Foo foo;
+    public static Integer i;
+
+    @Mock private SourceOfRandomness random;
+
+    private GeneratorRepository first;
+    private GeneratorRepository second;
+
+    @Before public void beforeEach() {
+        first = GeneratorRepository.shared(random);
+        second = GeneratorRepository.shared(random);
+    }
+
+    @Test public void findsServiceLoadedGenerators() throws Exception {
+        assertEquals(
+            AFoo.class,
+            first.generatorFor(typeOf(getClass(), "foo")).getClass());
+    }
+
+    @Test public void handsOutCopiesOfServiceLoadedGenerators()
+        throws Exception {
+
+        assertTrue(
+            first.generatorFor(typeOf(getClass(), "foo"))
+                != second.generatorFor(typeOf(getClass(), "foo")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registeringOnOneDoesNotAffectAnother() throws Exception {
+        first.register(new AnInt());
+
+        assertEquals(
+            AnInt.class,
+            first.generatorFor(typeOf(getClass(), "i")).getClass());
+
+        second.generatorFor(typeOf(getClass(), "i"));
+    }
+
+    @Test public void indexesGeneratorsByContextClassLoader()
+        throws Exception {
+
+        Thread current = Thread.currentThread();
+        ClassLoader original = current.getContextClassLoader();
+
+        try (URLClassLoader bare = new URLClassLoader(new URL[0], null)) {
+            current.setContextClassLoader(bare);
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> GeneratorRepository.shared(random)
+                    .generatorFor(typeOf(getClass(), "foo")));
+        } finally {
+            current.setContextClassLoader(original);
+        }
+
+        assertEquals(
+            AFoo.class,
+            GeneratorRepository.shared(random)
+                .generatorFor(typeOf(getClass(), "foo"))
+                .getClass());
+    }
+
+    @Test public void registeringReturnsTheSameRepository() {
+        assertSame(first, first.register(new AnInt()));
+    }
+}
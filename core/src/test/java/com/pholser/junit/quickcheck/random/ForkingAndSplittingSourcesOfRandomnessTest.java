@@ -0,0 +1,91 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class ForkingAndSplittingSourcesOfRandomnessTest {
+    @Test public void forkOfEngineDrawsWhatTheOriginalDraws() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(new LinearCongruentialRandom());
+        source.nextDouble();
+
+        SourceOfRandomness fork = source.fork();
+
+        assertEquals(source.seed(), fork.seed());
+        assertNotSame(source.toJDKRandom(), fork.toJDKRandom());
+        for (int i = 0; i < 100; ++i)
+            assertEquals(source.nextLong(-i, i), fork.nextLong(-i, i));
+    }
+
+    @Test public void forkOfJavaUtilRandomDrawsWhatTheOriginalDraws() {
+        SourceOfRandomness source = new SourceOfRandomness(new Random());
+        source.nextDouble();
+
+        SourceOfRandomness fork = source.fork();
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(source.nextInt(), fork.nextInt());
+    }
+
+    @Test public void splitIsSeededFromADrawOfTheOriginal() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(new Xoroshiro128PlusPlusRandom());
+        long expectedSeed = source.fork().nextLong();
+
+        SourceOfRandomness split = source.split();
+
+        assertEquals(expectedSeed, split.seed());
+        assertEquals(
+            new Xoroshiro128PlusPlusRandom(expectedSeed).nextLong(),
+            split.nextLong());
+    }
+
+    @Test public void splitOfJavaUtilRandomIsSeededFromADrawOfTheOriginal() {
+        SourceOfRandomness source = new SourceOfRandomness(new Random());
+        long expectedSeed = source.fork().nextLong();
+
+        SourceOfRandomness split = source.split();
+
+        assertEquals(expectedSeed, split.seed());
+        assertEquals(new Random(expectedSeed).nextLong(), split.nextLong());
+    }
+
+    @Test public void splitAdvancesTheOriginal() {
+        SourceOfRandomness source =
+            new SourceOfRandomness(new LinearCongruentialRandom());
+        SourceOfRandomness fork = source.fork();
+
+        source.split();
+        fork.nextLong();
+
+        assertEquals(fork.nextLong(), source.nextLong());
+    }
+}
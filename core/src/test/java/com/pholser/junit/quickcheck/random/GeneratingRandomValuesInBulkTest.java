@@ -0,0 +1,115 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GeneratingRandomValuesInBulkTest {
+    private SourceOfRandomness bulk;
+    private SourceOfRandomness oneByOne;
+
+    @Before public void beforeEach() {
+        bulk = new SourceOfRandomness(new Random());
+        bulk.setSeed(-9L);
+        oneByOne = new SourceOfRandomness(new Random());
+        oneByOne.setSeed(-9L);
+    }
+
+    @Test public void intsInBulkAreTheIntsDrawnOneByOne() {
+        int[][] ranges = {
+            { -3, 3 }, { 5, 5 }, { 0, 0xD7FF }, { Integer.MIN_VALUE, 0 },
+            { Integer.MIN_VALUE, Integer.MAX_VALUE }
+        };
+
+        for (int[] range : ranges) {
+            int[] expected = new int[37];
+            for (int i = 0; i < expected.length; ++i)
+                expected[i] = oneByOne.nextInt(range[0], range[1]);
+
+            int[] actual = new int[37];
+            bulk.nextInts(actual, range[0], range[1]);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test public void longsInBulkAreTheLongsDrawnOneByOne() {
+        long[][] ranges = {
+            { -3, 3 }, { 5, 5 }, { 0, 1L << 40 }, { Long.MIN_VALUE, 0 },
+            { Long.MIN_VALUE, Long.MAX_VALUE }
+        };
+
+        for (long[] range : ranges) {
+            long[] expected = new long[37];
+            for (int i = 0; i < expected.length; ++i)
+                expected[i] = oneByOne.nextLong(range[0], range[1]);
+
+            long[] actual = new long[37];
+            bulk.nextLongs(actual, range[0], range[1]);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test public void doublesInBulkAreTheDoublesDrawnOneByOne() {
+        double[] expected = new double[37];
+        for (int i = 0; i < expected.length; ++i)
+            expected[i] = oneByOne.nextDouble(-1.5, 2.5);
+
+        double[] actual = new double[37];
+        bulk.nextDoubles(actual, -1.5, 2.5);
+
+        assertArrayEquals(expected, actual, 0D);
+    }
+
+    @Test public void booleansInBulkAreSixtyFourBitsAtATime() {
+        long[] expected = new long[5];
+        for (int i = 0; i < expected.length; ++i)
+            expected[i] = oneByOne.nextLong();
+
+        long[] actual = new long[5];
+        bulk.nextBooleans(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test public void sameSeedSameBulkValues() {
+        int[] first = new int[100];
+        bulk.nextInts(first, -1000, 1000);
+
+        bulk.setSeed(-9L);
+        int[] second = new int[100];
+        bulk.nextInts(second, -1000, 1000);
+
+        assertArrayEquals(first, second);
+        assertEquals(oneByOne.nextInt(-1000, 1000), first[0]);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeNoException;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.SplittableRandom;
+import org.junit.Test;
+
+public class RandomEngineAlgorithmsTest {
+    @Test public void splitMix64AgreesWithSplittableRandom() {
+        SplittableRandom expected = new SplittableRandom(123L);
+        SplitMix64Random actual = new SplitMix64Random(123L);
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(expected.nextLong(), actual.nextLong());
+    }
+
+    @Test public void linearCongruentialAgreesWithJavaUtilRandom() {
+        Random expected = new Random(-45L);
+        LinearCongruentialRandom actual = new LinearCongruentialRandom(-45L);
+
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(expected.nextInt(), actual.nextInt());
+            assertEquals(expected.nextInt(i + 1), actual.nextInt(i + 1));
+            assertEquals(expected.nextLong(), actual.nextLong());
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+            assertEquals(expected.nextFloat(), actual.nextFloat(), 0F);
+            assertEquals(expected.nextDouble(), actual.nextDouble(), 0D);
+            assertEquals(expected.nextGaussian(), actual.nextGaussian(), 0D);
+
+            byte[] expectedBytes = new byte[i % 11];
+            byte[] actualBytes = new byte[i % 11];
+            expected.nextBytes(expectedBytes);
+            actual.nextBytes(actualBytes);
+            assertArrayEquals(expectedBytes, actualBytes);
+        }
+
+        expected.setSeed(7L);
+        actual.setSeed(7L);
+        assertEquals(expected.nextLong(), actual.nextLong());
+    }
+
+    @Test public void pcg32AgreesWithTheReferenceImplementation() {
+        // pcg32_srandom_r(&rng, 42, 0xda3e39cb94b95bdb), then pcg32_random_r
+        int[] expected = {
+            0x713066ea, 0x3c7a0d56, 0xf424216a,
+            0x25c89145, 0x43e7ef3e, 0x90cff60c
+        };
+        Pcg32Random actual = new Pcg32Random(42L);
+
+        for (int each : expected)
+            assertEquals(each, actual.nextInt());
+    }
+
+    @Test public void l64X128MixAgreesWithTheJDKAlgorithm() throws Exception {
+        Object expected;
+        Method nextLong;
+        try {
+            Class<?> factory =
+                Class.forName("java.util.random.RandomGeneratorFactory");
+            Object l64X128Mix =
+                factory.getMethod("of", String.class)
+                    .invoke(null, "L64X128MixRandom");
+            expected =
+                factory.getMethod("create", long.class)
+                    .invoke(l64X128Mix, 123L);
+            nextLong =
+                Class.forName("java.util.random.RandomGenerator")
+                    .getMethod("nextLong");
+        } catch (ReflectiveOperationException ex) {
+            assumeNoException(ex);
+            return;
+        }
+
+        L64X128MixRandom actual = new L64X128MixRandom(123L);
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(nextLong.invoke(expected), actual.nextLong());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import com.pholser.junit.quickcheck.LongRunning;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Measures draws per second through {@link SourceOfRandomness} for
+ * {@link Random} and each {@link RandomEngine}.
+ */
+@Category(LongRunning.class)
+public class RandomEngineBenchmark {
+    private static final int WARMUP = 5_000_000;
+    private static final int ITERATIONS = 50_000_000;
+
+    @Test public void drawsPerSecond() {
+        measure("Random", Random::new);
+        measure("SplitMix64Random", SplitMix64Random::new);
+        measure("Xoroshiro128PlusPlusRandom", Xoroshiro128PlusPlusRandom::new);
+        measure("Pcg32Random", Pcg32Random::new);
+        measure("L64X128MixRandom", L64X128MixRandom::new);
+    }
+
+    private static void measure(String name, Supplier<Random> engine) {
+        SourceOfRandomness random = new SourceOfRandomness(engine.get());
+        byte[] bytes = new byte[16];
+
+        System.out.printf(
+            "%-28s nextInt(min, max): %6.1f M/s, nextLong: %6.1f M/s,"
+                + " nextBytes(16): %6.1f M/s, nextDouble: %6.1f M/s%n",
+            name,
+            rate(random, r -> r.nextInt(-1000, 1000)),
+            rate(random, SourceOfRandomness::nextLong),
+            rate(random, r -> {
+                r.nextBytes(bytes);
+                return bytes[0];
+            }),
+            rate(random, r -> Double.doubleToRawLongBits(r.nextDouble())));
+    }
+
+    private static double rate(
+        SourceOfRandomness random,
+        ToLongFunction<SourceOfRandomness> draw) {
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP; ++i)
+            checksum += draw.applyAsLong(random);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; ++i)
+            checksum += draw.applyAsLong(random);
+        long elapsed = System.nanoTime() - start;
+
+        if (checksum == 42)
+            System.out.println("(checksum " + checksum + ')');
+
+        return ITERATIONS * 1_000.0 / elapsed;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongFunction;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class RandomEnginesTest {
+    @Parameter public LongFunction<RandomEngine> engine;
+
+    @Parameters public static Collection<Object[]> engines() {
+        return Arrays.asList(new Object[][] {
+            { (LongFunction<RandomEngine>) SplitMix64Random::new },
+            { (LongFunction<RandomEngine>) Xoroshiro128PlusPlusRandom::new },
+            { (LongFunction<RandomEngine>) Pcg32Random::new },
+            { (LongFunction<RandomEngine>) L64X128MixRandom::new },
+            { (LongFunction<RandomEngine>) LinearCongruentialRandom::new }
+        });
+    }
+
+    @Test public void sameSeedSameDraws() {
+        RandomEngine first = engine.apply(-3L);
+        RandomEngine second = engine.apply(-3L);
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(first.nextLong(), second.nextLong());
+    }
+
+    @Test public void reseedingRestartsDraws() {
+        RandomEngine random = engine.apply(17L);
+        long[] draws = { random.nextLong(), random.nextLong() };
+
+        random.setSeed(17L);
+
+        assertArrayEquals(
+            draws,
+            new long[] { random.nextLong(), random.nextLong() });
+    }
+
+    @Test public void differentSeedsDifferentDraws() {
+        assertNotEquals(
+            engine.apply(1L).nextLong(),
+            engine.apply(2L).nextLong());
+    }
+
+    @Test public void forkDrawsWhatTheOriginalDraws() {
+        RandomEngine random = engine.apply(23L);
+        random.nextLong();
+        random.nextGaussian();
+
+        RandomEngine fork = random.fork();
+
+        assertEquals(random.getClass(), fork.getClass());
+        assertEquals(random.nextGaussian(), fork.nextGaussian(), 0D);
+        for (int i = 0; i < 100; ++i)
+            assertEquals(random.nextLong(), fork.nextLong());
+    }
+
+    @Test public void forkDoesNotShareState() {
+        RandomEngine random = engine.apply(29L);
+        RandomEngine fork = random.fork();
+
+        long first = fork.nextLong();
+        fork.nextLong();
+
+        assertEquals(first, random.nextLong());
+    }
+
+    @Test public void splitAdvancesTheOriginalOnce() {
+        RandomEngine random = engine.apply(31L);
+        RandomEngine expected = random.fork();
+        long seed = expected.nextLong();
+
+        RandomEngine split = random.split();
+
+        assertEquals(expected.nextLong(), random.nextLong());
+        assertEquals(engine.apply(seed).nextLong(), split.nextLong());
+    }
+
+    @Test public void keepsSeedSemanticsOfSourceOfRandomness() {
+        SourceOfRandomness first = new SourceOfRandomness(engine.apply(0L));
+        SourceOfRandomness second = new SourceOfRandomness(engine.apply(0L));
+        second.setSeed(first.seed());
+
+        assertEquals(
+            first.nextInt(-100, 100),
+            second.nextInt(-100, 100));
+    }
+
+    @Test public void drawsInRange() {
+        SourceOfRandomness random = new SourceOfRandomness(engine.apply(5L));
+
+        for (int i = 0; i < 1000; ++i) {
+            assertThat(
+                random.nextInt(-7, 7),
+                allOf(greaterThanOrEqualTo(-7), lessThanOrEqualTo(7)));
+            assertThat(
+                random.nextDouble(),
+                allOf(greaterThanOrEqualTo(0D), lessThan(1D)));
+            assertThat(
+                random.nextFloat(),
+                allOf(greaterThanOrEqualTo(0F), lessThan(1F)));
+        }
+    }
+}
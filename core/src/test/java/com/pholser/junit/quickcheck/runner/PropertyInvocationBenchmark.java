@@ -0,0 +1,103 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import com.pholser.junit.quickcheck.LongRunning;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runners.model.FrameworkMethod;
+
+/**
+ * Compares the cost per trial of invoking trivial properties reflectively
+ * and through {@link PropertyInvoker}. Several property methods share each
+ * call site, as they do when a runner verifies many properties.
+ */
+@Category(LongRunning.class)
+public class PropertyInvocationBenchmark {
+    private static final int WARMUP = 2_000_000;
+    private static final int ITERATIONS = 20_000_000;
+    private static final String[] PROPERTIES = {"a", "b", "c", "d"};
+
+    @Test public void nanosPerTrial() throws Throwable {
+        FrameworkMethod[] methods = new FrameworkMethod[PROPERTIES.length];
+        PropertyInvoker[] invokers = new PropertyInvoker[PROPERTIES.length];
+        for (int i = 0; i < PROPERTIES.length; ++i) {
+            methods[i] =
+                new FrameworkMethod(
+                    Trivial.class.getMethod(
+                        PROPERTIES[i],
+                        int.class,
+                        String.class));
+            invokers[i] = new PropertyInvoker(methods[i]);
+        }
+        Trivial test = new Trivial();
+        Object[] args = {1, "a"};
+
+        for (int round = 0; round < 3; ++round) {
+            for (int i = 0; i < WARMUP; ++i) {
+                methods[i % methods.length].invokeExplosively(test, args);
+                invokers[i % invokers.length].invoke(test, args);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; ++i)
+                methods[i % methods.length].invokeExplosively(test, args);
+            long reflective = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; ++i)
+                invokers[i % invokers.length].invoke(test, args);
+            long handle = System.nanoTime() - start;
+
+            System.out.printf(
+                "invokeExplosively: %.2f ns/trial,"
+                    + " method handle: %.2f ns/trial (checksum %d)%n",
+                (double) reflective / ITERATIONS,
+                (double) handle / ITERATIONS,
+                test.count);
+        }
+    }
+
+    public static class Trivial {
+        long count;
+
+        public void a(int i, String s) {
+            count += i;
+        }
+
+        public void b(int i, String s) {
+            count += s.length();
+        }
+
+        public void c(int i, String s) {
+            count -= i;
+        }
+
+        public void d(int i, String s) {
+            count -= s.length();
+        }
+    }
+}
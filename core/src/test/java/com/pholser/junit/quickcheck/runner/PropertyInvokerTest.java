@@ -0,0 +1,94 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.junit.runners.model.FrameworkMethod;
+
+public class PropertyInvokerTest {
+    @Test public void spreadsArgumentsOverParameters() throws Throwable {
+        Target target = new Target();
+
+        invoker(Target.class, "record").invoke(target, new Object[] {3, "x"});
+
+        assertArrayEquals(new Object[] {3, "x"}, target.received);
+    }
+
+    @Test public void propagatesExceptionsUnwrapped() throws Throwable {
+        AssertionError failure = new AssertionError("nope");
+
+        try {
+            invoker(Target.class, "raise")
+                .invoke(new Target(), new Object[] {failure});
+            fail();
+        } catch (AssertionError expected) {
+            assertSame(failure, expected);
+        }
+    }
+
+    @Test public void fallsBackOnInaccessibleClass() throws Throwable {
+        Hidden hidden = new Hidden();
+
+        invoker(Hidden.class, "record").invoke(hidden, new Object[] {4, "y"});
+
+        assertArrayEquals(new Object[] {4, "y"}, hidden.received);
+    }
+
+    private static PropertyInvoker invoker(Class<?> clazz, String name)
+        throws NoSuchMethodException {
+
+        for (java.lang.reflect.Method each : clazz.getMethods()) {
+            if (each.getName().equals(name))
+                return new PropertyInvoker(new FrameworkMethod(each));
+        }
+
+        throw new NoSuchMethodException(name);
+    }
+
+    public static class Target {
+        Object[] received;
+
+        public void record(int i, String s) {
+            received = new Object[] {i, s};
+        }
+
+        public void raise(AssertionError e) {
+            throw e;
+        }
+    }
+
+    static class Hidden {
+        Object[] received;
+
+        public void record(int i, String s) {
+            received = new Object[] {i, s};
+        }
+    }
+}
@@ -25,41 +25,55 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
-import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
-import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * <p>Base class for generators of values of type {@link String}.</p>
  *
  * <p>The generated values will have {@linkplain String#length()} decided by
- * {@link GenerationStatus#size()}.</p>
+ * {@link GenerationStatus#size()}, narrowed to any bounds on length that the
+ * property parameter's constraint implies.</p>
  */
 public abstract class AbstractStringGenerator extends Generator<String> {
+    private int leastLength;
+    private int mostLength = Integer.MAX_VALUE;
+
     protected AbstractStringGenerator() {
         super(String.class);
     }
 
+    /*
+     * Lengths here count code points; a constraint on String.length() counts
+     * chars, which can be more, and still has the last word.
+     */
+    @Override public void constrain(Bounds bounds) {
+        int least = bounds.narrowMinSize(leastLength);
+        int most = bounds.narrowMaxSize(mostLength);
+        if (least <= most) {
+            leastLength = least;
+            mostLength = most;
+        }
+    }
+
     @Override public String generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        int[] codePoints = new int[status.size()];
-
-        for (int i = 0; i < codePoints.length; ++i)
-            codePoints[i] = nextCodePoint(random);
+        int[] codePoints =
+            new int[min(max(status.size(), leastLength), mostLength)];
+        nextCodePoints(random, codePoints);
 
-        return new String(codePoints, 0, codePoints.length);
+        return CodePointString.of(codePoints);
     }
 
     @Override public boolean canShrink(Object larger) {
@@ -70,22 +84,24 @@ public abstract class AbstractStringGenerator extends Generator<String> {
         SourceOfRandomness random,
         String larger) {
 
-        List<Integer> codePoints =
-            larger.codePoints().boxed().collect(toList());
-        List<String> shrinks = new ArrayList<>(removals(codePoints));
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<String> doShrinkLazily(
+        SourceOfRandomness random,
+        String larger) {
 
-        List<List<Integer>> oneItemShrinks =
-            shrinksOfOneItem(
+        /*
+         * shrink() and shrinkLazily() only get here once canShrink() has
+         * found every code point in range, and replacements are in range,
+         * so the candidates need no rescan.
+         */
+        CodePointString codePoints = new CodePointString(larger);
+        return Stream.concat(
+            codePoints.removals(leastLength),
+            codePoints.replacements(
                 random,
-                codePoints,
-                new CodePointShrink(this::codePointInRange));
-        shrinks.addAll(
-            oneItemShrinks.stream()
-                .map(this::convert)
-                .filter(this::codePointsInRange)
-                .collect(toList()));
-
-        return shrinks;
+                new CodePointShrink(this::codePointInRange)));
     }
 
     @Override public BigDecimal magnitude(Object value) {
@@ -94,23 +110,25 @@ public abstract class AbstractStringGenerator extends Generator<String> {
 
     protected abstract int nextCodePoint(SourceOfRandomness random);
 
-    protected abstract boolean codePointInRange(int codePoint);
+    /**
+     * Fills the given array with code points for a generated string.
+     * Subclasses can override to draw them in bulk, with methods such as
+     * {@link SourceOfRandomness#nextInts(int[], int, int)}.
+     *
+     * @param random source of randomness
+     * @param codePoints array to fill
+     */
+    protected void nextCodePoints(
+        SourceOfRandomness random,
+        int[] codePoints) {
 
-    private boolean codePointsInRange(String s) {
-        return s.codePoints().allMatch(this::codePointInRange);
+        for (int i = 0; i < codePoints.length; ++i)
+            codePoints[i] = nextCodePoint(random);
     }
 
-    private List<String> removals(List<Integer> codePoints) {
-        return stream(halving(codePoints.size()).spliterator(), false)
-            .map(i -> Lists.removeFrom(codePoints, i))
-            .flatMap(Collection::stream)
-            .map(this::convert)
-            .collect(toList());
-    }
+    protected abstract boolean codePointInRange(int codePoint);
 
-    private String convert(List<Integer> codePoints) {
-        StringBuilder s = new StringBuilder();
-        codePoints.forEach(s::appendCodePoint);
-        return s.toString();
+    private boolean codePointsInRange(String s) {
+        return s.codePoints().allMatch(this::codePointInRange);
     }
 }
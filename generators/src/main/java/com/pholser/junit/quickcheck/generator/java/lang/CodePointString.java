@@ -0,0 +1,186 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator.java.lang;
+
+import static com.pholser.junit.quickcheck.internal.Sequences.concatenating;
+import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import com.pholser.junit.quickcheck.generator.Shrink;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+ * Builds strings from code points, and the shrinks of a string, straight from
+ * its chars -- or its bytes, when every char is Latin-1 -- without boxing its
+ * code points or rescanning it.
+ */
+final class CodePointString {
+    private final String value;
+    private final byte[] latin1;
+    private final int[] offsets;
+    private final int count;
+
+    CodePointString(String value) {
+        this.value = value;
+
+        int length = value.length();
+        count = value.codePointCount(0, length);
+        offsets = count == length ? null : offsets(value, count);
+        latin1 = offsets == null && isLatin1(value)
+            ? value.getBytes(ISO_8859_1)
+            : null;
+    }
+
+    static String of(int[] codePoints) {
+        int max = 0;
+        for (int each : codePoints)
+            max = Math.max(max, each);
+
+        if (max >= 0x100)
+            return new String(codePoints, 0, codePoints.length);
+
+        byte[] bytes = new byte[codePoints.length];
+        for (int i = 0; i < codePoints.length; ++i)
+            bytes[i] = (byte) codePoints[i];
+        return new String(bytes, ISO_8859_1);
+    }
+
+    /*
+     * Gives the strings that result from removing each successive run of
+     * howMany code points, for howMany halving from the string's code point
+     * count; as Lists.removeFromLazily would, but building each only when
+     * asked for. Strings of fewer than leastCount code points are skipped.
+     */
+    Stream<String> removals(int leastCount) {
+        List<Integer> runs = new ArrayList<>();
+        for (int howMany : halving(count)) {
+            if (count - howMany >= leastCount)
+                runs.add(howMany);
+        }
+
+        int[] firsts = new int[runs.size() + 1];
+        for (int k = 0; k < runs.size(); ++k) {
+            int howMany = runs.get(k);
+            firsts[k + 1] = firsts[k] + (howMany == 0 ? 1 : count / howMany);
+        }
+
+        return IntStream.range(0, firsts[runs.size()])
+            .mapToObj(i -> {
+                int k = 0;
+                while (firsts[k + 1] <= i)
+                    ++k;
+
+                int howMany = runs.get(k);
+                return howMany == 0
+                    ? value
+                    : without((i - firsts[k]) * howMany, howMany);
+            });
+    }
+
+    /*
+     * Gives the strings that result from replacing one code point with one
+     * of its shrinks, first code point first.
+     */
+    Stream<String> replacements(
+        SourceOfRandomness random,
+        Shrink<Integer> shrink) {
+
+        return concatenating(
+            count,
+            i -> shrink.shrinkLazily(random, codePointAt(i))
+                .map(c -> replacing(i, c)));
+    }
+
+    private int codePointAt(int index) {
+        return latin1 != null
+            ? latin1[index] & 0xFF
+            : value.codePointAt(offset(index));
+    }
+
+    private int offset(int index) {
+        if (offsets == null)
+            return index;
+        return index == count ? value.length() : offsets[index];
+    }
+
+    private String without(int start, int howMany) {
+        if (latin1 != null) {
+            byte[] bytes = new byte[count - howMany];
+            System.arraycopy(latin1, 0, bytes, 0, start);
+            System.arraycopy(
+                latin1,
+                start + howMany,
+                bytes,
+                start,
+                count - start - howMany);
+            return new String(bytes, ISO_8859_1);
+        }
+
+        int from = offset(start);
+        int to = offset(start + howMany);
+        return new StringBuilder(value.length() - (to - from))
+            .append(value, 0, from)
+            .append(value, to, value.length())
+            .toString();
+    }
+
+    private String replacing(int index, int codePoint) {
+        if (latin1 != null && codePoint < 0x100) {
+            byte[] bytes = latin1.clone();
+            bytes[index] = (byte) codePoint;
+            return new String(bytes, ISO_8859_1);
+        }
+
+        int from = offset(index);
+        int to = offset(index + 1);
+        return new StringBuilder(value.length() + 1)
+            .append(value, 0, from)
+            .appendCodePoint(codePoint)
+            .append(value, to, value.length())
+            .toString();
+    }
+
+    private static int[] offsets(String value, int count) {
+        int[] offsets = new int[count];
+        for (int i = 0, offset = 0; i < count; ++i) {
+            offsets[i] = offset;
+            offset += Character.charCount(value.codePointAt(offset));
+        }
+        return offsets;
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); ++i) {
+            if (value.charAt(i) >= 0x100)
+                return false;
+        }
+        return true;
+    }
+}
@@ -28,7 +28,9 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
+import com.pholser.junit.quickcheck.generator.DoubleGen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.internal.Comparables;
@@ -41,7 +43,8 @@ import java.util.function.Predicate;
  * Produces values for property parameters of type {@code double} or
  * {@link Double}.
  */
-public class DoubleGenerator extends DecimalGenerator<Double> {
+public class DoubleGenerator extends DecimalGenerator<Double>
+    implements DoubleGen {
     private double min = (Double) defaultValueOf(InRange.class, "minDouble");
     private double max = (Double) defaultValueOf(InRange.class, "maxDouble");
 
@@ -70,13 +73,37 @@ public class DoubleGenerator extends DecimalGenerator<Double> {
                 : Double.parseDouble(range.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        double least = bounds.narrowMin(min);
+        double most = bounds.narrowMax(max);
+        if (least <= most) {
+            min = least;
+            max = most;
+        }
+    }
+
     @Override public Double generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateDouble(random, status);
+    }
+
+    @Override public double generateDouble(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextDouble(min, max);
     }
 
+    @Override public void generateDoubles(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        double[] values) {
+
+        random.nextDoubles(values, min, max);
+    }
+
     @Override protected Function<Double, BigDecimal> widen() {
         return BigDecimal::valueOf;
     }
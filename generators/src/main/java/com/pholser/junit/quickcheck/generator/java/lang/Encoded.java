@@ -68,6 +68,15 @@ public class Encoded extends AbstractStringGenerator {
         return charsetPoints.at(random.nextInt(0, charsetPoints.size() - 1));
     }
 
+    @Override protected void nextCodePoints(
+        SourceOfRandomness random,
+        int[] codePoints) {
+
+        random.nextInts(codePoints, 0, charsetPoints.size() - 1);
+        for (int i = 0; i < codePoints.length; ++i)
+            codePoints[i] = charsetPoints.at(codePoints[i]);
+    }
+
     @Override protected boolean codePointInRange(int codePoint) {
         return charsetPoints.contains(codePoint);
     }
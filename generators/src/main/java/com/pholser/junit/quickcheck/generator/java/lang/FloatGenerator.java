@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
@@ -68,6 +69,15 @@ public class FloatGenerator extends DecimalGenerator<Float> {
                 : Float.parseFloat(range.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        float least = (float) bounds.narrowMin((double) min);
+        float most = (float) bounds.narrowMax((double) max);
+        if (least <= most) {
+            min = least;
+            max = most;
+        }
+    }
+
     @Override public Float generate(
         SourceOfRandomness random,
         GenerationStatus status) {
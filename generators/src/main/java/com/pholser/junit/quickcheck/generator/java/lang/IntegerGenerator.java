@@ -28,8 +28,10 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.IntGen;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
@@ -41,7 +43,8 @@ import java.util.function.Predicate;
 /**
  * Produces values of type {@code int} or {@link Integer}.
  */
-public class IntegerGenerator extends IntegralGenerator<Integer> {
+public class IntegerGenerator extends IntegralGenerator<Integer>
+    implements IntGen {
     private int min = (Integer) defaultValueOf(InRange.class, "minInt");
     private int max = (Integer) defaultValueOf(InRange.class, "maxInt");
 
@@ -69,13 +72,37 @@ public class IntegerGenerator extends IntegralGenerator<Integer> {
                 : Integer.parseInt(range.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        long least = bounds.narrowMin((long) min);
+        long most = bounds.narrowMax((long) max);
+        if (least <= most) {
+            min = (int) least;
+            max = (int) most;
+        }
+    }
+
     @Override public Integer generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateInt(random, status);
+    }
+
+    @Override public int generateInt(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextInt(min, max);
     }
 
+    @Override public void generateInts(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int[] values) {
+
+        random.nextInts(values, min, max);
+    }
+
     @Override protected Function<BigInteger, Integer> narrow() {
         return BigInteger::intValue;
     }
@@ -28,9 +28,11 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
+import com.pholser.junit.quickcheck.generator.LongGen;
 import com.pholser.junit.quickcheck.internal.Comparables;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.math.BigDecimal;
@@ -41,7 +43,8 @@ import java.util.function.Predicate;
 /**
  * Produces values of type {@code long} or {@link Long}.
  */
-public class LongGenerator extends IntegralGenerator<Long> {
+public class LongGenerator extends IntegralGenerator<Long>
+    implements LongGen {
     private long min = (Long) defaultValueOf(InRange.class, "minLong");
     private long max = (Long) defaultValueOf(InRange.class, "maxLong");
 
@@ -69,13 +72,37 @@ public class LongGenerator extends IntegralGenerator<Long> {
                 : Long.parseLong(range.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        long least = bounds.narrowMin(min);
+        long most = bounds.narrowMax(max);
+        if (least <= most) {
+            min = least;
+            max = most;
+        }
+    }
+
     @Override public Long generate(
         SourceOfRandomness random,
         GenerationStatus status) {
 
+        return generateLong(random, status);
+    }
+
+    @Override public long generateLong(
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
         return random.nextLong(min, max);
     }
 
+    @Override public void generateLongs(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        long[] values) {
+
+        random.nextLongs(values, min, max);
+    }
+
     @Override protected Function<BigInteger, Long> narrow() {
         return BigInteger::longValue;
     }
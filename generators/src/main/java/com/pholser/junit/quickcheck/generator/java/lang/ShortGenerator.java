@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 import static com.pholser.junit.quickcheck.internal.Reflection.defaultValueOf;
 import static java.util.Arrays.asList;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -69,6 +70,15 @@ public class ShortGenerator extends IntegralGenerator<Short> {
                 : Short.parseShort(range.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        long least = bounds.narrowMin((long) min);
+        long most = bounds.narrowMax((long) max);
+        if (least <= most) {
+            min = (short) least;
+            max = (short) most;
+        }
+    }
+
     @Override public Short generate(
         SourceOfRandomness random,
         GenerationStatus status) {
@@ -36,6 +36,13 @@ public class StringGenerator extends AbstractStringGenerator {
         return random.nextInt(0, Character.MIN_SURROGATE - 1);
     }
 
+    @Override protected void nextCodePoints(
+        SourceOfRandomness random,
+        int[] codePoints) {
+
+        random.nextInts(codePoints, 0, Character.MIN_SURROGATE - 1);
+    }
+
     @Override protected boolean codePointInRange(int codePoint) {
         return codePoint >= 0 && codePoint < Character.MIN_SURROGATE;
     }
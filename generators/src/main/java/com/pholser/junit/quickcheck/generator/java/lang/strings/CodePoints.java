@@ -27,20 +27,29 @@ package com.pholser.junit.quickcheck.generator.java.lang.strings;
 
 import static java.lang.String.format;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Maps ordinal values to corresponding Unicode code points in a
  * {@link java.nio.charset.Charset}.
  */
 public class CodePoints {
+    static final String PRECOMPUTED_RESOURCE = "codepoints.bin";
+
     private static final Map<Charset, CodePoints> ENCODABLES =
-        new HashMap<>();
+        new ConcurrentHashMap<>();
 
     private final List<CodePointRange> ranges;
 
@@ -96,7 +105,22 @@ public class CodePoints {
      * @return whether this code point set contains the given code point
      */
     public boolean contains(int codePoint) {
-        return ranges.stream().anyMatch(r -> r.contains(codePoint));
+        int min = 0;
+        int max = ranges.size() - 1;
+
+        while (min <= max) {
+            int midpoint = min + ((max - min) / 2);
+            CodePointRange current = ranges.get(midpoint);
+
+            if (current.contains(codePoint))
+                return true;
+            if (codePoint < current.low)
+                max = midpoint - 1;
+            else
+                min = midpoint + 1;
+        }
+
+        return false;
     }
 
     /**
@@ -106,12 +130,7 @@ public class CodePoints {
      * @return the set of code points in the charset
      */
     public static CodePoints forCharset(Charset c) {
-        if (ENCODABLES.containsKey(c))
-            return ENCODABLES.get(c);
-
-        CodePoints points = load(c);
-        ENCODABLES.put(c, points);
-        return points;
+        return ENCODABLES.computeIfAbsent(c, CodePoints::load);
     }
 
     private static CodePoints load(Charset c) {
@@ -120,14 +139,21 @@ public class CodePoints {
                 "Charset " + c.name() + " does not support encoding");
         }
 
-        return encodableCodePoints(c.newEncoder());
+        CodePoints precomputed = Precomputed.TABLES.get(c.name());
+        return precomputed != null ? precomputed : encodable(c);
     }
 
     void add(CodePointRange range) {
         ranges.add(range);
     }
 
-    private static CodePoints encodableCodePoints(CharsetEncoder encoder) {
+    List<CodePointRange> ranges() {
+        return Collections.unmodifiableList(ranges);
+    }
+
+    /* Finds the code points of a charset by trying to encode each one */
+    static CodePoints encodable(Charset c) {
+        CharsetEncoder encoder = c.newEncoder();
         CodePoints points = new CodePoints();
 
         int start = 0;
@@ -163,6 +189,49 @@ public class CodePoints {
         return points;
     }
 
+    /*
+     * Code points of common charsets, computed ahead of time: finding them
+     * by encoding takes a noticeable fraction of a second per charset. The
+     * resource holds, for each charset, its name, then how many ranges of
+     * code points it has, then the low and high of each range.
+     */
+    private static final class Precomputed {
+        static final Map<String, CodePoints> TABLES = read();
+
+        private static Map<String, CodePoints> read() {
+            Map<String, CodePoints> tables = new HashMap<>();
+
+            InputStream resource =
+                CodePoints.class.getResourceAsStream(PRECOMPUTED_RESOURCE);
+            if (resource == null)
+                return tables;
+
+            try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(resource))) {
+
+                for (int charsets = in.readInt(); charsets > 0; --charsets) {
+                    String name = in.readUTF();
+                    CodePoints points = new CodePoints();
+                    int previousCount = 0;
+                    for (int count = in.readInt(); count > 0; --count) {
+                        CodePointRange range =
+                            new CodePointRange(
+                                in.readInt(),
+                                in.readInt(),
+                                previousCount);
+                        points.add(range);
+                        previousCount += range.size();
+                    }
+                    tables.put(name, points);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return tables;
+        }
+    }
+
     static class CodePointRange {
         final int low;
         final int high;
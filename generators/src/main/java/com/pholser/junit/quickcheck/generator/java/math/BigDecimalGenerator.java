@@ -32,6 +32,7 @@ import static java.math.BigDecimal.TEN;
 import static java.math.BigDecimal.ZERO;
 import static java.util.function.Function.identity;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.DecimalGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
@@ -82,6 +83,15 @@ public class BigDecimalGenerator extends DecimalGenerator<BigDecimal> {
             checkRange(Ranges.Type.FLOAT, min, max);
     }
 
+    @Override public void constrain(Bounds bounds) {
+        BigDecimal least = bounds.narrowMin(min);
+        BigDecimal most = bounds.narrowMax(max);
+        if (least == null || most == null || least.compareTo(most) < 0) {
+            min = least;
+            max = most;
+        }
+    }
+
     /**
      * <p>Tells this generator to produce values that have a specified
      * {@linkplain Precision#scale() scale}.</p>
@@ -31,6 +31,7 @@ import static java.math.BigInteger.TEN;
 import static java.math.BigInteger.ZERO;
 import static java.util.function.Function.identity;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.IntegralGenerator;
@@ -78,6 +79,15 @@ public class BigIntegerGenerator extends IntegralGenerator<BigInteger> {
             checkRange(Ranges.Type.INTEGRAL, min, max);
     }
 
+    @Override public void constrain(Bounds bounds) {
+        BigInteger least = bounds.narrowMin(min);
+        BigInteger most = bounds.narrowMax(max);
+        if (least == null || most == null || least.compareTo(most) <= 0) {
+            min = least;
+            max = most;
+        }
+    }
+
     @Override public BigInteger generate(
         SourceOfRandomness random,
         GenerationStatus status) {
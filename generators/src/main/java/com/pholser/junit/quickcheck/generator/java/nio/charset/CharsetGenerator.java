@@ -25,10 +25,9 @@
 
 package com.pholser.junit.quickcheck.generator.java.nio.charset;
 
-import static java.nio.charset.Charset.availableCharsets;
-
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Registries;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.nio.charset.Charset;
 
@@ -44,7 +43,6 @@ public class CharsetGenerator extends Generator<Charset> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        return Charset.forName(
-            random.choose(availableCharsets().keySet()));
+        return Registries.charsets().choose(random);
     }
 }
@@ -25,10 +25,9 @@
 
 package com.pholser.junit.quickcheck.generator.java.time;
 
-import static java.time.ZoneId.getAvailableZoneIds;
-
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Registries;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.time.ZoneId;
 
@@ -44,6 +43,6 @@ public class ZoneIdGenerator extends Generator<ZoneId> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        return ZoneId.of(random.choose(getAvailableZoneIds()));
+        return Registries.zoneIds().choose(random);
     }
 }
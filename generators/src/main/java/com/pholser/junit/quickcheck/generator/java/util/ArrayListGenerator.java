@@ -32,6 +32,6 @@ import java.util.ArrayList;
  */
 public class ArrayListGenerator extends ListGenerator<ArrayList> {
     public ArrayListGenerator() {
-        super(ArrayList.class);
+        super(ArrayList.class, ArrayList::new);
     }
 }
@@ -50,12 +50,12 @@ public class BitSetGenerator extends Generator<BitSet> {
 
         int size = status.size();
 
-        BitSet bits = new BitSet(size);
-        for (int i = 0; i < size; ++i) {
-            bits.set(i, random.nextBoolean());
-        }
+        long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        random.nextBooleans(words);
+        if (size % Long.SIZE != 0)
+            words[words.length - 1] &= -1L >>> (Long.SIZE - size % Long.SIZE);
 
-        return bits;
+        return BitSet.valueOf(words);
     }
 
     @Override public List<BitSet> doShrink(
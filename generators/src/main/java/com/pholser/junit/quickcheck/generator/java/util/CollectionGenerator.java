@@ -25,29 +25,41 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.DistinctValues.fill;
+import static com.pholser.junit.quickcheck.internal.Lists.removeFromLazily;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static com.pholser.junit.quickcheck.internal.Unboxing.unboxes;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
+import com.pholser.junit.quickcheck.generator.DoubleGen;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.IntGen;
+import com.pholser.junit.quickcheck.generator.LongGen;
 import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
 import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -63,11 +75,29 @@ import java.util.stream.Stream;
 public abstract class CollectionGenerator<T extends Collection>
     extends ComponentizedGenerator<T> {
 
+    private final IntFunction<? extends T> factory;
+
     private Size sizeRange;
+    private int leastSize;
+    private int mostSize = Integer.MAX_VALUE;
     private boolean distinct;
 
     protected CollectionGenerator(Class<T> type) {
+        this(type, reflectively(type));
+    }
+
+    /**
+     * @param type class token for type of collection generated
+     * @param factory makes empty collections of the generated type, given
+     * the number of elements they are expected to hold
+     */
+    protected CollectionGenerator(
+        Class<T> type,
+        IntFunction<? extends T> factory) {
+
         super(type);
+
+        this.factory = factory;
     }
 
     /**
@@ -86,6 +116,15 @@ public abstract class CollectionGenerator<T extends Collection>
         checkRange(INTEGRAL, size.min(), size.max());
     }
 
+    @Override public void constrain(Bounds bounds) {
+        int least = bounds.narrowMinSize(minimumSize());
+        int most = bounds.narrowMaxSize(maximumSize());
+        if (least <= most) {
+            leastSize = least;
+            mostSize = most;
+        }
+    }
+
     /**
      * Tells this generator to add elements which are distinct from each other.
      *
@@ -108,41 +147,58 @@ public abstract class CollectionGenerator<T extends Collection>
         int size = size(random, status);
 
         Generator<?> generator = componentGenerators().get(0);
-        Stream<?> itemStream =
-            Stream.generate(() -> generator.generate(random, status))
-                .sequential();
-        if (distinct) {
-            itemStream = itemStream.distinct();
+        T items = empty(size);
+
+        if (!distinct) {
+            if (addUnboxed(generator, random, status, items, size))
+                return items;
+
+            for (int i = 0; i < size; ++i)
+                items.add(generator.generate(random, status));
+            return items;
         }
 
-        T items = empty();
-        itemStream.limit(size).forEach(items::add);
+        /* A set is its own check for duplicates */
+        Set<Object> seen =
+            items instanceof Set
+                ? (Set<Object>) items
+                : new HashSet<>(Capacities.hashed(size));
+        fill(size, minimumSize(), added -> {
+            Object item = generator.generate(random, status);
+            if (!seen.add(item))
+                return false;
+            if (seen != items)
+                items.add(item);
+            return true;
+        });
         return items;
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Object> asList = new ArrayList<>(larger);
 
-        List<T> shrinks = new ArrayList<>(removals(asList));
-
         @SuppressWarnings("unchecked")
         Shrink<Object> generator =
             (Shrink<Object>) componentGenerators().get(0);
 
         Stream<List<Object>> oneItemShrinks =
-            shrinksOfOneItem(random, asList, generator)
-                .stream();
+            shrinksOfOneItemLazily(random, asList, generator);
         if (distinct)
             oneItemShrinks = oneItemShrinks.filter(Lists::isDistinct);
 
-        shrinks.addAll(
+        return Stream.concat(
+            removals(asList),
             oneItemShrinks
                 .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
-
-        return shrinks;
+                .filter(this::inSizeRange));
     }
 
     @Override public int numberOfNeededComponents() {
@@ -163,34 +219,90 @@ public abstract class CollectionGenerator<T extends Collection>
     }
 
     protected final T empty() {
-        return instantiate(findConstructor(types().get(0)));
+        return empty(0);
+    }
+
+    /**
+     * @param size how many elements the collection is expected to hold
+     * @return an empty collection of the generated type
+     */
+    protected final T empty(int size) {
+        return factory.apply(size);
+    }
+
+    /* Fills values in bulk, boxing them only to add them */
+    @SuppressWarnings("unchecked")
+    private boolean addUnboxed(
+        Generator<?> generator,
+        SourceOfRandomness random,
+        GenerationStatus status,
+        T items,
+        int size) {
+
+        if (!unboxes(generator))
+            return false;
+
+        if (generator instanceof IntGen) {
+            int[] values = new int[size];
+            ((IntGen) generator).generateInts(random, status, values);
+            for (int each : values)
+                items.add(each);
+        } else if (generator instanceof LongGen) {
+            long[] values = new long[size];
+            ((LongGen) generator).generateLongs(random, status, values);
+            for (long each : values)
+                items.add(each);
+        } else if (generator instanceof DoubleGen) {
+            double[] values = new double[size];
+            ((DoubleGen) generator).generateDoubles(random, status, values);
+            for (double each : values)
+                items.add(each);
+        } else {
+            return false;
+        }
+
+        return true;
     }
 
     private boolean inSizeRange(T items) {
+        return items.size() >= minimumSize() && items.size() <= maximumSize();
+    }
+
+    private int minimumSize() {
+        return sizeRange == null
+            ? leastSize
+            : max(leastSize, sizeRange.min());
+    }
+
+    private int maximumSize() {
         return sizeRange == null
-            || (items.size() >= sizeRange.min()
-                && items.size() <= sizeRange.max());
+            ? mostSize
+            : min(mostSize, sizeRange.max());
     }
 
     private int size(SourceOfRandomness random, GenerationStatus status) {
         return sizeRange != null
-            ? random.nextInt(sizeRange.min(), sizeRange.max())
-            : status.size();
+            ? random.nextInt(minimumSize(), maximumSize())
+            : min(max(status.size(), leastSize), mostSize);
     }
 
-    private List<T> removals(List<?> items) {
+    private Stream<T> removals(List<?> items) {
         return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
+            .map(i -> removeFromLazily(items, i))
+            .reduce(Stream.empty(), Stream::concat)
             .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
+            .filter(this::inSizeRange);
     }
 
     @SuppressWarnings("unchecked")
     private T convert(List<?> items) {
-        T converted = empty();
+        T converted = empty(items.size());
         converted.addAll(items);
         return converted;
     }
+
+    private static <T> IntFunction<T> reflectively(Class<T> type) {
+        Constructor<T> noArg = findConstructor(type);
+        return size -> instantiate(noArg);
+    }
 }
@@ -32,6 +32,6 @@ import java.util.HashMap;
  */
 public class HashMapGenerator extends MapGenerator<HashMap> {
     public HashMapGenerator() {
-        super(HashMap.class);
+        super(HashMap.class, n -> new HashMap<>(Capacities.hashed(n)));
     }
 }
@@ -32,6 +32,6 @@ import java.util.HashSet;
  */
 public class HashSetGenerator extends SetGenerator<HashSet> {
     public HashSetGenerator() {
-        super(HashSet.class);
+        super(HashSet.class, n -> new HashSet<>(Capacities.hashed(n)));
     }
 }
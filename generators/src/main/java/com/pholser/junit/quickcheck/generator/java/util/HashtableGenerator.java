@@ -32,7 +32,7 @@ import java.util.Hashtable;
  */
 public class HashtableGenerator extends MapGenerator<Hashtable> {
     public HashtableGenerator() {
-        super(Hashtable.class);
+        super(Hashtable.class, n -> new Hashtable<>(Capacities.hashed(n)));
     }
 
     @Override protected boolean okToAdd(Object key, Object value) {
@@ -32,6 +32,8 @@ import java.util.LinkedHashMap;
  */
 public class LinkedHashMapGenerator extends MapGenerator<LinkedHashMap> {
     public LinkedHashMapGenerator() {
-        super(LinkedHashMap.class);
+        super(
+            LinkedHashMap.class,
+            n -> new LinkedHashMap<>(Capacities.hashed(n)));
     }
 }
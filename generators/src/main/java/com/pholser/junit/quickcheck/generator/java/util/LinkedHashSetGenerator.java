@@ -32,6 +32,8 @@ import java.util.LinkedHashSet;
  */
 public class LinkedHashSetGenerator extends SetGenerator<LinkedHashSet> {
     public LinkedHashSetGenerator() {
-        super(LinkedHashSet.class);
+        super(
+            LinkedHashSet.class,
+            n -> new LinkedHashSet<>(Capacities.hashed(n)));
     }
 }
@@ -32,6 +32,6 @@ import java.util.LinkedList;
  */
 public class LinkedListGenerator extends ListGenerator<LinkedList> {
     public LinkedListGenerator() {
-        super(LinkedList.class);
+        super(LinkedList.class, n -> new LinkedList<>());
     }
 }
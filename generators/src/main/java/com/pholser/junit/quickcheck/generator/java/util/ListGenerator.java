@@ -26,6 +26,7 @@
 package com.pholser.junit.quickcheck.generator.java.util;
 
 import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * Base class for generators of {@link java.util.List}s.
@@ -38,4 +39,8 @@ public abstract class ListGenerator<T extends List>
     protected ListGenerator(Class<T> type) {
         super(type);
     }
+
+    protected ListGenerator(Class<T> type, IntFunction<? extends T> factory) {
+        super(type, factory);
+    }
 }
@@ -25,10 +25,9 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static java.util.Locale.getAvailableLocales;
-
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Registries;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.Locale;
 
@@ -36,8 +35,6 @@ import java.util.Locale;
  * Produces values of type {@link Locale}.
  */
 public class LocaleGenerator extends Generator<Locale> {
-    private static final Locale[] AVAILABLE_LOCALES = getAvailableLocales();
-
     public LocaleGenerator() {
         super(Locale.class);
     }
@@ -46,6 +43,6 @@ public class LocaleGenerator extends Generator<Locale> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        return random.choose(AVAILABLE_LOCALES);
+        return Registries.locales().choose(random);
     }
 }
@@ -25,16 +25,20 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static com.pholser.junit.quickcheck.internal.Lists.removeFrom;
-import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItem;
+import static com.pholser.junit.quickcheck.internal.DistinctValues.fill;
+import static com.pholser.junit.quickcheck.internal.Lists.removeFromLazily;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
 import static com.pholser.junit.quickcheck.internal.Ranges.Type.INTEGRAL;
 import static com.pholser.junit.quickcheck.internal.Ranges.checkRange;
 import static com.pholser.junit.quickcheck.internal.Reflection.findConstructor;
 import static com.pholser.junit.quickcheck.internal.Reflection.instantiate;
 import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
+import com.pholser.junit.quickcheck.generator.Bounds;
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
@@ -43,13 +47,14 @@ import com.pholser.junit.quickcheck.generator.Shrink;
 import com.pholser.junit.quickcheck.generator.Size;
 import com.pholser.junit.quickcheck.internal.Lists;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.lang.reflect.Constructor;
 import java.math.BigDecimal;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -65,11 +70,26 @@ import java.util.stream.Stream;
 public abstract class MapGenerator<T extends Map>
     extends ComponentizedGenerator<T> {
 
+    private final IntFunction<? extends T> factory;
+
     private Size sizeRange;
+    private int leastSize;
+    private int mostSize = Integer.MAX_VALUE;
     private boolean distinct;
 
     protected MapGenerator(Class<T> type) {
+        this(type, reflectively(type));
+    }
+
+    /**
+     * @param type class token for type of map generated
+     * @param factory makes empty maps of the generated type, given the
+     * number of entries they are expected to hold
+     */
+    protected MapGenerator(Class<T> type, IntFunction<? extends T> factory) {
         super(type);
+
+        this.factory = factory;
     }
 
     /**
@@ -98,6 +118,15 @@ public abstract class MapGenerator<T extends Map>
         this.distinct = distinct != null;
     }
 
+    @Override public void constrain(Bounds bounds) {
+        int least = bounds.narrowMinSize(minimumSize());
+        int most = bounds.narrowMaxSize(maximumSize());
+        if (least <= most) {
+            leastSize = least;
+            mostSize = most;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override public T generate(
         SourceOfRandomness random,
@@ -106,50 +135,70 @@ public abstract class MapGenerator<T extends Map>
         int size = size(random, status);
 
         Generator<?> keyGenerator = componentGenerators().get(0);
-        Stream<?> keyStream =
-            Stream.generate(() -> keyGenerator.generate(random, status))
-                .sequential();
-        if (distinct)
-            keyStream = keyStream.distinct();
-
-        T items = empty();
         Generator<?> valueGenerator = componentGenerators().get(1);
-        keyStream
-            .map(key ->
-                new SimpleEntry<>(
-                    key,
-                    valueGenerator.generate(random, status)))
-            .filter(entry -> okToAdd(entry.getKey(), entry.getValue()))
-            .limit(size)
-            .forEach(entry -> items.put(entry.getKey(), entry.getValue()));
+
+        T items = empty(size);
+
+        if (distinct) {
+            /*
+             * The map is its own check for duplicate keys. Some maps refuse
+             * to look up null keys, so a null key is checked by whether
+             * putting it grows the map.
+             */
+            fill(size, minimumSize(), added -> {
+                Object key = keyGenerator.generate(random, status);
+                if (key != null && items.containsKey(key))
+                    return false;
+
+                Object value = valueGenerator.generate(random, status);
+                if (!okToAdd(key, value))
+                    return false;
+
+                int before = items.size();
+                items.put(key, value);
+                return items.size() > before;
+            });
+            return items;
+        }
+
+        for (int added = 0; added < size;) {
+            Object key = keyGenerator.generate(random, status);
+            Object value = valueGenerator.generate(random, status);
+            if (okToAdd(key, value)) {
+                items.put(key, value);
+                ++added;
+            }
+        }
 
         return items;
     }
 
     @Override public List<T> doShrink(SourceOfRandomness random, T larger) {
+        return doShrinkLazily(random, larger).collect(toList());
+    }
+
+    @Override public Stream<T> doShrinkLazily(
+        SourceOfRandomness random,
+        T larger) {
+
         @SuppressWarnings("unchecked")
         List<Entry<?, ?>> entries = new ArrayList<>(larger.entrySet());
 
-        List<T> shrinks = new ArrayList<>(removals(entries));
-
         @SuppressWarnings("unchecked")
         Shrink<Entry<?, ?>> entryShrink = entryShrinker(
             (Shrink<Object>) componentGenerators().get(0),
             (Shrink<Object>) componentGenerators().get(1));
 
         Stream<List<Entry<?, ?>>> oneEntryShrinks =
-            shrinksOfOneItem(random, entries, entryShrink)
-                .stream();
+            shrinksOfOneItemLazily(random, entries, entryShrink);
         if (distinct)
             oneEntryShrinks = oneEntryShrinks.filter(MapGenerator::isKeyDistinct);
 
-        shrinks.addAll(
+        return Stream.concat(
+            removals(entries),
             oneEntryShrinks
                 .map(this::convert)
-                .filter(this::inSizeRange)
-                .collect(toList()));
-
-        return shrinks;
+                .filter(this::inSizeRange));
     }
 
     @Override public int numberOfNeededComponents() {
@@ -176,7 +225,15 @@ public abstract class MapGenerator<T extends Map>
     }
 
     protected final T empty() {
-        return instantiate(findConstructor(types().get(0)));
+        return empty(0);
+    }
+
+    /**
+     * @param size how many entries the map is expected to hold
+     * @return an empty map of the generated type
+     */
+    protected final T empty(int size) {
+        return factory.apply(size);
     }
 
     protected boolean okToAdd(Object key, Object value) {
@@ -184,28 +241,39 @@ public abstract class MapGenerator<T extends Map>
     }
 
     private boolean inSizeRange(T target) {
+        return target.size() >= minimumSize()
+            && target.size() <= maximumSize();
+    }
+
+    private int minimumSize() {
         return sizeRange == null
-            || (target.size() >= sizeRange.min() && target.size() <= sizeRange.max());
+            ? leastSize
+            : max(leastSize, sizeRange.min());
+    }
+
+    private int maximumSize() {
+        return sizeRange == null
+            ? mostSize
+            : min(mostSize, sizeRange.max());
     }
 
     private int size(SourceOfRandomness random, GenerationStatus status) {
         return sizeRange != null
-            ? random.nextInt(sizeRange.min(), sizeRange.max())
-            : status.size();
+            ? random.nextInt(minimumSize(), maximumSize())
+            : min(max(status.size(), leastSize), mostSize);
     }
 
-    private List<T> removals(List<Entry<?, ?>> items) {
+    private Stream<T> removals(List<Entry<?, ?>> items) {
         return stream(halving(items.size()).spliterator(), false)
-            .map(i -> removeFrom(items, i))
-            .flatMap(Collection::stream)
+            .map(i -> removeFromLazily(items, i))
+            .reduce(Stream.empty(), Stream::concat)
             .map(this::convert)
-            .filter(this::inSizeRange)
-            .collect(toList());
+            .filter(this::inSizeRange);
     }
 
     @SuppressWarnings("unchecked")
     private T convert(List<?> entries) {
-        T converted = empty();
+        T converted = empty(entries.size());
 
         for (Object each : entries) {
             Entry<?, ?> entry = (Entry<?, ?>) each;
@@ -219,26 +287,35 @@ public abstract class MapGenerator<T extends Map>
         Shrink<Object> keyShrinker,
         Shrink<Object> valueShrinker) {
 
-        return (r, e) -> {
-            @SuppressWarnings("unchecked")
-            Entry<Object, Object> entry = (Entry<Object, Object>) e;
-
-            List<Object> keyShrinks = keyShrinker.shrink(r, entry.getKey());
-            List<Object> valueShrinks = valueShrinker.shrink(r, entry.getValue());
-            List<Entry<?, ?>> shrinks = new ArrayList<>();
-            shrinks.addAll(
-                keyShrinks.stream()
-                    .map(k -> new SimpleEntry<>(k, entry.getValue()))
-                    .collect(toList()));
-            shrinks.addAll(
-                valueShrinks.stream()
-                    .map(v -> new SimpleEntry<>(entry.getKey(), v))
-                    .collect(toList()));
-
-            return shrinks;
+        return new Shrink<Entry<?, ?>>() {
+            @Override public List<Entry<?, ?>> shrink(
+                SourceOfRandomness random,
+                Object larger) {
+
+                return shrinkLazily(random, larger).collect(toList());
+            }
+
+            @Override public Stream<Entry<?, ?>> shrinkLazily(
+                SourceOfRandomness random,
+                Object larger) {
+
+                @SuppressWarnings("unchecked")
+                Entry<Object, Object> entry = (Entry<Object, Object>) larger;
+
+                return Stream.concat(
+                    keyShrinker.shrinkLazily(random, entry.getKey())
+                        .map(k -> new SimpleEntry<>(k, entry.getValue())),
+                    valueShrinker.shrinkLazily(random, entry.getValue())
+                        .map(v -> new SimpleEntry<>(entry.getKey(), v)));
+            }
         };
     }
 
+    private static <T> IntFunction<T> reflectively(Class<T> type) {
+        Constructor<T> noArg = findConstructor(type);
+        return size -> instantiate(noArg);
+    }
+
     private static boolean isKeyDistinct(List<Entry<?, ?>> entries) {
         return Lists.isDistinct(
             entries.stream()
@@ -27,6 +27,7 @@ package com.pholser.junit.quickcheck.generator.java.util;
 
 import com.pholser.junit.quickcheck.generator.Size;
 import java.util.Set;
+import java.util.function.IntFunction;
 
 /**
  * Base class for generators of {@link Set}s.
@@ -40,6 +41,10 @@ public abstract class SetGenerator<T extends Set>
         super(type);
     }
 
+    protected SetGenerator(Class<T> type, IntFunction<? extends T> factory) {
+        super(type, factory);
+    }
+
     @Override public void configure(Size size) {
         super.configure(size);
 
@@ -32,6 +32,10 @@ import java.util.Stack;
  */
 public class StackGenerator extends ListGenerator<Stack> {
     public StackGenerator() {
-        super(Stack.class);
+        super(Stack.class, n -> {
+            Stack<Object> stack = new Stack<>();
+            stack.ensureCapacity(n);
+            return stack;
+        });
     }
 }
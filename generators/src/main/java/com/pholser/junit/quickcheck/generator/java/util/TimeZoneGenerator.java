@@ -25,11 +25,9 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import static java.util.TimeZone.getAvailableIDs;
-import static java.util.TimeZone.getTimeZone;
-
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Registries;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import java.util.TimeZone;
 
@@ -37,8 +35,6 @@ import java.util.TimeZone;
  * Produces values of type {@link TimeZone}.
  */
 public class TimeZoneGenerator extends Generator<TimeZone> {
-    private static final String[] AVAILABLE_IDS = getAvailableIDs();
-
     public TimeZoneGenerator() {
         super(TimeZone.class);
     }
@@ -47,6 +43,7 @@ public class TimeZoneGenerator extends Generator<TimeZone> {
         SourceOfRandomness random,
         GenerationStatus status) {
 
-        return getTimeZone(random.choose(AVAILABLE_IDS));
+        /* Time zones are mutable, so each value gets its own */
+        return (TimeZone) Registries.timeZones().choose(random).clone();
     }
 }
@@ -32,6 +32,6 @@ import java.util.Vector;
  */
 public class VectorGenerator extends ListGenerator<Vector> {
     public VectorGenerator() {
-        super(Vector.class);
+        super(Vector.class, Vector::new);
     }
 }
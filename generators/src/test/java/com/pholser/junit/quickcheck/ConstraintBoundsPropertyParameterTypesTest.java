@@ -0,0 +1,185 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.hasSingleFailureContaining;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/*
+ * A discard ratio of 1 fails a property once a parameter's discards catch
+ * up with its successes; without narrowing the generators to the bounds
+ * these constraints imply, nearly every value would be discarded.
+ */
+public class ConstraintBoundsPropertyParameterTypesTest {
+    @Test public void narrowInts() {
+        assertThat(testResult(NarrowInts.class), isSuccessful());
+        assertEquals(100, NarrowInts.iterations);
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowInts {
+        static int iterations;
+
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_ > 0 && #_ < 100")
+            int i) {
+
+            ++iterations;
+            assertThat(i, both(greaterThan(0)).and(lessThan(100)));
+        }
+    }
+
+    @Test public void narrowLongs() {
+        assertThat(testResult(NarrowLongs.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowLongs {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "-3 <= #_ and #_ <= 3")
+            Long i) {
+
+            assertThat(
+                i,
+                both(greaterThanOrEqualTo(-3L)).and(lessThanOrEqualTo(3L)));
+        }
+    }
+
+    @Test public void narrowBigIntegers() {
+        assertThat(testResult(NarrowBigIntegers.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowBigIntegers {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_ > 1000") BigInteger i) {
+
+            assertThat(i, greaterThan(BigInteger.valueOf(1000)));
+        }
+    }
+
+    @Test public void narrowDoubles() {
+        assertThat(testResult(NarrowDoubles.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowDoubles {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_ > 0.25 && #_ < 0.26")
+            double d) {
+
+            assertThat(d, both(greaterThan(0.25)).and(lessThan(0.26)));
+        }
+    }
+
+    @Test public void narrowStringLengths() {
+        assertThat(testResult(NarrowStringLengths.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowStringLengths {
+        @Property public void holds(
+            @When(
+                discardRatio = 1,
+                satisfies = "#_.length() >= 20 && #_.length() <= 25")
+            String s) {
+
+            assertThat(
+                s.codePointCount(0, s.length()),
+                both(greaterThanOrEqualTo(20)).and(lessThanOrEqualTo(25)));
+        }
+    }
+
+    @Test public void narrowListSizes() {
+        assertThat(testResult(NarrowListSizes.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowListSizes {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_.size() > 30")
+            List<Integer> items) {
+
+            assertThat(items.size(), greaterThan(30));
+        }
+    }
+
+    @Test public void narrowSizedMaps() {
+        assertThat(testResult(NarrowSizedMaps.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowSizedMaps {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_.size() < 3")
+            @Size(max = 50) Map<Integer, Integer> items) {
+
+            assertThat(items.size(), lessThan(3));
+        }
+    }
+
+    @Test public void narrowArrayLengths() {
+        assertThat(testResult(NarrowArrayLengths.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class NarrowArrayLengths {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_.length == 4") int[] items) {
+
+            assertEquals(4, items.length);
+        }
+    }
+
+    @Test public void unsatisfiableBoundsLeaveGeneratorsAsTheyAre() {
+        assertThat(
+            testResult(UnsatisfiableBounds.class),
+            hasSingleFailureContaining("Stopping"));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class UnsatisfiableBounds {
+        @Property public void holds(
+            @When(discardRatio = 1, satisfies = "#_ > 1000") byte b) {
+        }
+    }
+}
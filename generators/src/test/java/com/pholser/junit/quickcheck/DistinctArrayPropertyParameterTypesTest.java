@@ -30,6 +30,7 @@ import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.Size;
 import com.pholser.junit.quickcheck.internal.Lists;
+import com.pholser.junit.quickcheck.internal.DistinctValues.ExhaustedException;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -86,4 +87,35 @@ public class DistinctArrayPropertyParameterTypesTest {
             fail();
         }
     }
+
+    @Test public void distinctArraysAsLongAsTheirDomainAllows() {
+        assertThat(
+            testResult(DistinctArraysAsLongAsTheirDomainAllows.class),
+            isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctArraysAsLongAsTheirDomainAllows {
+        @Property public void shouldHold(
+            boolean @Size(min = 0, max = 5) @Distinct [] b) {
+
+            assertThat(b.length, lessThanOrEqualTo(2));
+            if (b.length == 2)
+                assertNotEquals(b[0], b[1]);
+        }
+    }
+
+    @Test public void distinctArraysLongerThanTheirDomain() {
+        assertThat(
+            testResult(DistinctArraysLongerThanTheirDomain.class),
+            hasFailureContaining(ExhaustedException.class.getName()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctArraysLongerThanTheirDomain {
+        @Property public void shouldHold(
+            @InRange(minInt = 1, maxInt = 3)
+                int @Size(min = 4, max = 4) @Distinct [] i) {
+        }
+    }
 }
@@ -88,4 +88,22 @@ public class DistinctListPropertyParameterTypesTest {
             fail();
         }
     }
+
+    @Test public void distinctListsAsLargeAsTheirDomainAllows() {
+        assertThat(
+            testResult(DistinctListsAsLargeAsTheirDomainAllows.class),
+            isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctListsAsLargeAsTheirDomainAllows {
+        @Property public void shouldHold(
+            @Size(min = 1, max = 5) @Distinct List<Boolean> items) {
+
+            assertThat(
+                items.size(),
+                allOf(greaterThanOrEqualTo(1), lessThanOrEqualTo(2)));
+            assertTrue(Lists.isDistinct(items));
+        }
+    }
 }
@@ -28,6 +28,7 @@ package com.pholser.junit.quickcheck;
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.DistinctValues.ExhaustedException;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -83,4 +84,19 @@ public class DistinctMapPropertyParameterTypesTest {
             fail();
         }
     }
+
+    @Test public void distinctMapsLargerThanTheirDomainOfKeys() {
+        assertThat(
+            testResult(DistinctMapsLargerThanTheirDomainOfKeys.class),
+            hasFailureContaining(ExhaustedException.class.getName()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctMapsLargerThanTheirDomainOfKeys {
+        @Property public void shouldHold(
+            @Size(min = 3, max = 3)
+            @Distinct
+                Map<Boolean, Integer> items) {
+        }
+    }
 }
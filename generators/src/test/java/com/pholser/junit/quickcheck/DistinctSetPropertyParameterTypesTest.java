@@ -3,6 +3,7 @@ package com.pholser.junit.quickcheck;
 import com.pholser.junit.quickcheck.generator.Distinct;
 import com.pholser.junit.quickcheck.generator.InRange;
 import com.pholser.junit.quickcheck.generator.Size;
+import com.pholser.junit.quickcheck.internal.DistinctValues.ExhaustedException;
 import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -54,4 +55,17 @@ public class DistinctSetPropertyParameterTypesTest {
             fail();
         }
     }
+
+    @Test public void distinctSetsLargerThanTheirDomain() {
+        assertThat(
+            testResult(DistinctSetsLargerThanTheirDomain.class),
+            hasFailureContaining(ExhaustedException.class.getName()));
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class DistinctSetsLargerThanTheirDomain {
+        @Property public void shouldHold(
+            @Size(min = 3, max = 5) @Distinct Set<Boolean> items) {
+        }
+    }
 }
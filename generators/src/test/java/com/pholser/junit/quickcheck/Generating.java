@@ -47,6 +47,26 @@ public final class Generating {
         verify(random, mode).nextBoolean();
     }
 
+    public static void booleansInBulk(
+        SourceOfRandomness random,
+        long... words) {
+
+        int[] next = { 0 };
+        doAnswer(invocation -> {
+            long[] bits = invocation.getArgument(0);
+            for (int i = 0; i < bits.length; ++i)
+                bits[i] = words[next[0]++];
+            return null;
+        }).when(random).nextBooleans(any(long[].class));
+    }
+
+    public static void verifyBooleansInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode) {
+
+        verify(random, mode).nextBooleans(any(long[].class));
+    }
+
     public static byte bytes(SourceOfRandomness random) {
         return random.nextByte(minByte(), maxByte());
     }
@@ -69,15 +89,18 @@ public final class Generating {
         verify(random, mode).nextChar(minChar(), maxChar());
     }
 
-    public static int charsForString(SourceOfRandomness random) {
-        return random.nextInt(0, 0xD7FF);
+    public static void charsForString(
+        SourceOfRandomness random,
+        int... codePoints) {
+
+        intsInBulk(random, 0, 0xD7FF, codePoints);
     }
 
     public static void verifyCharsForString(
         SourceOfRandomness random,
         VerificationMode mode) {
 
-        verify(random, mode).nextInt(0, 0xD7FF);
+        verifyIntsInBulk(random, mode, 0, 0xD7FF);
     }
 
     public static double doubles(SourceOfRandomness random) {
@@ -126,6 +149,30 @@ public final class Generating {
         verify(random, mode).nextInt(min, max);
     }
 
+    public static void intsInBulk(
+        SourceOfRandomness random,
+        int min,
+        int max,
+        int... values) {
+
+        int[] next = { 0 };
+        doAnswer(invocation -> {
+            int[] ints = invocation.getArgument(0);
+            for (int i = 0; i < ints.length; ++i)
+                ints[i] = values[next[0]++];
+            return null;
+        }).when(random).nextInts(any(int[].class), eq(min), eq(max));
+    }
+
+    public static void verifyIntsInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode,
+        int min,
+        int max) {
+
+        verify(random, mode).nextInts(any(int[].class), eq(min), eq(max));
+    }
+
     public static int ints(SourceOfRandomness random, int n) {
         return random.nextInt(n);
     }
@@ -149,6 +196,30 @@ public final class Generating {
         verifyLongs(random, mode, minLong(), maxLong());
     }
 
+    public static void longsInBulk(
+        SourceOfRandomness random,
+        long min,
+        long max,
+        long... values) {
+
+        int[] next = { 0 };
+        doAnswer(invocation -> {
+            long[] longs = invocation.getArgument(0);
+            for (int i = 0; i < longs.length; ++i)
+                longs[i] = values[next[0]++];
+            return null;
+        }).when(random).nextLongs(any(long[].class), eq(min), eq(max));
+    }
+
+    public static void verifyLongsInBulk(
+        SourceOfRandomness random,
+        VerificationMode mode,
+        long min,
+        long max) {
+
+        verify(random, mode).nextLongs(any(long[].class), eq(min), eq(max));
+    }
+
     public static long longs(SourceOfRandomness random, long min, long max) {
         return random.nextLong(min, max);
     }
@@ -0,0 +1,128 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.experimental.results.PrintableResult.testResult;
+import static org.junit.experimental.results.ResultMatchers.isSuccessful;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.java.lang.DoubleGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.IntegerGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.LongGenerator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+public class OverriddenPrimitiveGeneratorPropertyParameterTypesTest {
+    @Test public void listOfOverriddenIntegers() {
+        assertThat(testResult(ListOfOverriddenIntegers.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ListOfOverriddenIntegers {
+        @Property public void shouldHold(List<@From(Sevens.class) Integer> s) {
+            assertThat(s, everyItem(equalTo(7)));
+        }
+    }
+
+    @Test public void arrayOfOverriddenInts() {
+        assertThat(testResult(ArrayOfOverriddenInts.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ArrayOfOverriddenInts {
+        @Property public void shouldHold(
+            List<@From(Sevens.class) int[]> s) {
+
+            for (int[] array : s) {
+                for (int each : array)
+                    assertEquals(7, each);
+            }
+        }
+    }
+
+    @Test public void arrayOfOverriddenLongs() {
+        assertThat(testResult(ArrayOfOverriddenLongs.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ArrayOfOverriddenLongs {
+        @Property public void shouldHold(
+            List<@From(Elevens.class) long[]> e) {
+
+            for (long[] array : e) {
+                for (long each : array)
+                    assertEquals(11L, each);
+            }
+        }
+    }
+
+    @Test public void listOfOverriddenDoubles() {
+        assertThat(testResult(ListOfOverriddenDoubles.class), isSuccessful());
+    }
+
+    @RunWith(JUnitQuickcheck.class)
+    public static class ListOfOverriddenDoubles {
+        @Property public void shouldHold(
+            List<@From(Halves.class) Double> h) {
+
+            assertThat(h, everyItem(equalTo(0.5)));
+        }
+    }
+
+    public static class Sevens extends IntegerGenerator {
+        @Override public Integer generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return 7;
+        }
+    }
+
+    public static class Elevens extends LongGenerator {
+        @Override public Long generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return 11L;
+        }
+    }
+
+    public static class Halves extends DoubleGenerator {
+        @Override public Double generate(
+            SourceOfRandomness random,
+            GenerationStatus status) {
+
+            return 0.5;
+        }
+    }
+}
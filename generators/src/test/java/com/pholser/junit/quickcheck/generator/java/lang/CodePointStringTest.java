@@ -0,0 +1,112 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator.java.lang;
+
+import static com.pholser.junit.quickcheck.internal.Lists.removeFromLazily;
+import static com.pholser.junit.quickcheck.internal.Lists.shrinksOfOneItemLazily;
+import static com.pholser.junit.quickcheck.internal.Sequences.halving;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+import static org.junit.Assert.assertEquals;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class CodePointStringTest {
+    private final SourceOfRandomness random =
+        new SourceOfRandomness(new Random(0));
+
+    @Test public void latin1FromCodePoints() {
+        assertEquals(
+            "abéÿ",
+            CodePointString.of(new int[] { 'a', 'b', 0xE9, 0xFF }));
+    }
+
+    @Test public void bmpFromCodePoints() {
+        assertEquals(
+            "aĀ€",
+            CodePointString.of(new int[] { 'a', 0x100, 0x20AC }));
+    }
+
+    @Test public void supplementaryFromCodePoints() {
+        assertEquals(
+            "a😀",
+            CodePointString.of(new int[] { 'a', 0x1F600 }));
+    }
+
+    @Test public void emptyFromCodePoints() {
+        assertEquals("", CodePointString.of(new int[0]));
+    }
+
+    @Test public void shrinksOfEmptyString() {
+        verifyShrinksOf("");
+    }
+
+    @Test public void shrinksOfLatin1String() {
+        verifyShrinksOf("Hello, WörldÉ");
+    }
+
+    @Test public void shrinksOfBmpString() {
+        verifyShrinksOf("Z€qĀ X");
+    }
+
+    @Test public void shrinksOfSupplementaryString() {
+        verifyShrinksOf("A😀b𐐀Q😁");
+    }
+
+    private void verifyShrinksOf(String s) {
+        CodePointString codePoints = new CodePointString(s);
+        CodePointShrink shrink = new CodePointShrink(c -> true);
+
+        assertEquals(removals(s), codePoints.removals(0).collect(toList()));
+        assertEquals(
+            replacements(s, shrink),
+            codePoints.replacements(random, shrink).collect(toList()));
+    }
+
+    private static List<String> removals(String s) {
+        List<Integer> codePoints = s.codePoints().boxed().collect(toList());
+        return stream(halving(codePoints.size()).spliterator(), false)
+            .flatMap(i -> removeFromLazily(codePoints, i))
+            .map(CodePointStringTest::convert)
+            .collect(toList());
+    }
+
+    private List<String> replacements(String s, CodePointShrink shrink) {
+        List<Integer> codePoints = s.codePoints().boxed().collect(toList());
+        return shrinksOfOneItemLazily(random, codePoints, shrink)
+            .map(CodePointStringTest::convert)
+            .collect(toList());
+    }
+
+    private static String convert(List<Integer> codePoints) {
+        StringBuilder s = new StringBuilder();
+        codePoints.forEach(s::appendCodePoint);
+        return s.toString();
+    }
+}
@@ -26,6 +26,7 @@
 package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static com.pholser.junit.quickcheck.Generating.verifyInts;
+import static java.lang.Integer.MIN_VALUE;
 import static java.util.Arrays.asList;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -42,8 +43,8 @@ public class ConstrainedPrimitiveIntegerPropertyParameterTest
     }
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.ints(randomForParameterGenerator))
-            .thenReturn(0).thenReturn(1).thenReturn(-1);
+        when(Generating.ints(randomForParameterGenerator, MIN_VALUE, 0))
+            .thenReturn(0).thenReturn(-1);
     }
 
     @Override protected int trials() {
@@ -55,6 +56,6 @@ public class ConstrainedPrimitiveIntegerPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyInts(randomForParameterGenerator, times(3));
+        verifyInts(randomForParameterGenerator, times(2), MIN_VALUE, 0);
     }
 }
@@ -41,9 +41,9 @@ public class StringPropertyParameterTest extends BasicGeneratorPropertyParameter
     public static final String TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.charsForString(randomForParameterGenerator))
-            .thenReturn(0x61).thenReturn(0x62).thenReturn(0x63)
-            .thenReturn(0x64).thenReturn(0x65).thenReturn(0x66);
+        Generating.charsForString(
+            randomForParameterGenerator,
+            0x61, 0x62, 0x63, 0x64, 0x65, 0x66);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -63,7 +63,7 @@ public class StringPropertyParameterTest extends BasicGeneratorPropertyParameter
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyCharsForString(randomForParameterGenerator, times(6));
+        verifyCharsForString(randomForParameterGenerator, times(4));
         verify(distro).sampleWithMean(1, randomForParameterGenerator);
         verify(distro).sampleWithMean(2, randomForParameterGenerator);
         verify(distro).sampleWithMean(3, randomForParameterGenerator);
@@ -26,6 +26,7 @@
 package com.pholser.junit.quickcheck.generator.java.lang.strings;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 
 import java.nio.charset.Charset;
@@ -87,6 +88,35 @@ public class CodePointsTest {
         assertEquals(87, points.at(27));
     }
 
+    @Test public void containment() {
+        CodePoints points = new CodePoints();
+        points.add(new CodePoints.CodePointRange(20, 21, 0));
+        points.add(new CodePoints.CodePointRange(30, 34, 2));
+        points.add(new CodePoints.CodePointRange(50, 55, 7));
+        points.add(new CodePoints.CodePointRange(60, 62, 13));
+
+        for (int i = 0; i < 70; ++i) {
+            boolean expected =
+                (i >= 20 && i <= 21)
+                    || (i >= 30 && i <= 34)
+                    || (i >= 50 && i <= 55)
+                    || (i >= 60 && i <= 62);
+            assertEquals(String.valueOf(i), expected, points.contains(i));
+        }
+    }
+
+    @Test public void containmentInEmpty() {
+        assertFalse(new CodePoints().contains(0));
+    }
+
+    @Test public void precomputedCodePointsAgreeWithEncoding() {
+        Charset ascii = Charset.forName("US-ASCII");
+
+        assertEquals(
+            PrecomputedCodePointsTest.bounds(CodePoints.encodable(ascii)),
+            PrecomputedCodePointsTest.bounds(CodePoints.forCharset(ascii)));
+    }
+
     @Test public void lowIndex() {
         assertThrows(
             IndexOutOfBoundsException.class,
@@ -0,0 +1,67 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator.java.lang.strings;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import com.pholser.junit.quickcheck.LongRunning;
+import java.nio.charset.Charset;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@Category(LongRunning.class)
+@RunWith(Parameterized.class)
+public class PrecomputedCodePointsTest {
+    private final Charset charset;
+
+    public PrecomputedCodePointsTest(Charset charset) {
+        this.charset = charset;
+    }
+
+    @Parameterized.Parameters(name = "charset {0}")
+    public static Iterable<Charset> data() {
+        return PrecomputedCodePointsWriter.CHARSETS.stream()
+            .filter(Charset::isSupported)
+            .map(Charset::forName)
+            .collect(toList());
+    }
+
+    @Test public void agreesWithEncoding() {
+        assertEquals(
+            bounds(CodePoints.encodable(charset)),
+            bounds(CodePoints.forCharset(charset)));
+    }
+
+    static List<String> bounds(CodePoints points) {
+        return points.ranges().stream()
+            .map(r -> r.low + ".." + r.high + "@" + r.previousCount)
+            .collect(toList());
+    }
+}
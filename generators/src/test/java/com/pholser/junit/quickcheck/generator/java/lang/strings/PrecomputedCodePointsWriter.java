@@ -0,0 +1,106 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2021 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator.java.lang.strings;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+import com.pholser.junit.quickcheck.generator.java.lang.strings.CodePoints.CodePointRange;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/*
+ * Writes the resource of precomputed code points for common charsets.
+ * Run with the path of the resource to regenerate it, e.g.:
+ *
+ * generators/src/main/resources/com/pholser/junit/quickcheck/generator/
+ *     java/lang/strings/codepoints.bin
+ */
+public final class PrecomputedCodePointsWriter {
+    static final List<String> CHARSETS =
+        asList(
+            "US-ASCII",
+            "UTF-8",
+            "UTF-16",
+            "UTF-16BE",
+            "UTF-16LE",
+            "UTF-32",
+            "ISO-8859-1",
+            "ISO-8859-2",
+            "ISO-8859-3",
+            "ISO-8859-4",
+            "ISO-8859-5",
+            "ISO-8859-6",
+            "ISO-8859-7",
+            "ISO-8859-8",
+            "ISO-8859-9",
+            "ISO-8859-13",
+            "ISO-8859-15",
+            "ISO-8859-16",
+            "windows-1250",
+            "windows-1251",
+            "windows-1252",
+            "windows-1253",
+            "windows-1254",
+            "windows-1255",
+            "windows-1256",
+            "windows-1257",
+            "windows-1258");
+
+    private PrecomputedCodePointsWriter() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Charset> charsets =
+            CHARSETS.stream()
+                .filter(Charset::isSupported)
+                .map(Charset::forName)
+                .collect(toList());
+
+        try (DataOutputStream out =
+            new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(args[0])))) {
+
+            out.writeInt(charsets.size());
+            for (Charset each : charsets) {
+                List<CodePointRange> ranges =
+                    CodePoints.encodable(each).ranges();
+
+                out.writeUTF(each.name());
+                out.writeInt(ranges.size());
+                for (CodePointRange r : ranges) {
+                    out.writeInt(r.low);
+                    out.writeInt(r.high);
+                }
+            }
+        }
+    }
+}
@@ -41,8 +41,7 @@ public class BitSetPropertyParameterTest
     public static final BitSet TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.booleans(randomForParameterGenerator))
-            .thenReturn(true).thenReturn(false).thenReturn(true);
+        Generating.booleansInBulk(randomForParameterGenerator, 0b1, 0b10);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -65,6 +64,6 @@ public class BitSetPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyBooleans(randomForParameterGenerator, times(3));
+        verifyBooleansInBulk(randomForParameterGenerator, times(3));
     }
 }
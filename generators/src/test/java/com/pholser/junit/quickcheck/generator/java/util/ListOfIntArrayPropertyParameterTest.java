@@ -31,6 +31,7 @@ import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 
 import static com.pholser.junit.quickcheck.Generating.*;
+import static com.pholser.junit.quickcheck.generator.RangeAttributes.*;
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.mockito.Mockito.*;
@@ -41,9 +42,11 @@ public class ListOfIntArrayPropertyParameterTest
     public static final List<int[]> TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.ints(randomForParameterGenerator))
-            .thenReturn(-1).thenReturn(-2).thenReturn(2).thenReturn(0)
-            .thenReturn(1);
+        Generating.intsInBulk(
+            randomForParameterGenerator,
+            minInt(),
+            maxInt(),
+            -1, -2, 2, 0, 1);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -64,6 +67,10 @@ public class ListOfIntArrayPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyInts(randomForParameterGenerator, times(5));
+        verifyIntsInBulk(
+            randomForParameterGenerator,
+            times(3),
+            minInt(),
+            maxInt());
     }
 }
@@ -31,6 +31,7 @@ import com.pholser.junit.quickcheck.Generating;
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
 
 import static com.pholser.junit.quickcheck.Generating.*;
+import static com.pholser.junit.quickcheck.generator.RangeAttributes.*;
 import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.mockito.Mockito.*;
@@ -41,8 +42,11 @@ public class ListOfWrapperLongPropertyParameterTest
     public static final List<Long> TYPE_BEARER = null;
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.longs(randomForParameterGenerator))
-            .thenReturn(-3L).thenReturn(-2L).thenReturn(-1L);
+        Generating.longsInBulk(
+            randomForParameterGenerator,
+            minLong(),
+            maxLong(),
+            -3L, -2L, -1L);
         when(distro.sampleWithMean(1, randomForParameterGenerator))
             .thenReturn(0);
         when(distro.sampleWithMean(2, randomForParameterGenerator))
@@ -60,6 +64,10 @@ public class ListOfWrapperLongPropertyParameterTest
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyLongs(randomForParameterGenerator, times(3));
+        verifyLongsInBulk(
+            randomForParameterGenerator,
+            times(3),
+            minLong(),
+            maxLong());
     }
 }
@@ -25,26 +25,27 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import java.util.List;
-import java.util.Locale;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
-
-import static java.util.Arrays.*;
-import static org.mockito.Mockito.*;
+import com.pholser.junit.quickcheck.internal.Registries;
+import com.pholser.junit.quickcheck.internal.Registries.Table;
+import java.util.Locale;
+import java.util.List;
 
 public class LocalePropertyParameterTest
     extends BasicGeneratorPropertyParameterTest {
 
     public static final Locale TYPE_BEARER = null;
 
-    private static final Locale[] LOCALES = Locale.getAvailableLocales();
+    private static final Table<Locale> VALUES = Registries.locales();
 
     @Override protected void primeSourceOfRandomness() {
-        when(randomForParameterGenerator.choose(LOCALES))
-            .thenReturn(LOCALES[1])
-            .thenReturn(LOCALES[0])
-            .thenReturn(LOCALES[2]);
+        when(randomForParameterGenerator.nextInt(VALUES.size()))
+            .thenReturn(1).thenReturn(0).thenReturn(2);
     }
 
     @Override protected int trials() {
@@ -52,11 +53,11 @@ public class LocalePropertyParameterTest
     }
 
     @Override protected List<?> randomValues() {
-        return asList(LOCALES[1], LOCALES[0], LOCALES[2]);
+        return asList(VALUES.get(1), VALUES.get(0), VALUES.get(2));
     }
 
     @Override public void verifyInteractionWithRandomness() {
         verify(randomForParameterGenerator, times(3))
-            .choose(LOCALES);
+            .nextInt(VALUES.size());
     }
 }
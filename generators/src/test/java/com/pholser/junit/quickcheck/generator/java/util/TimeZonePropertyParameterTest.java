@@ -25,24 +25,27 @@
 
 package com.pholser.junit.quickcheck.generator.java.util;
 
-import java.util.List;
-import java.util.TimeZone;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.pholser.junit.quickcheck.generator.BasicGeneratorPropertyParameterTest;
-
-import static java.util.Arrays.*;
-import static org.mockito.Mockito.*;
+import com.pholser.junit.quickcheck.internal.Registries;
+import com.pholser.junit.quickcheck.internal.Registries.Table;
+import java.util.TimeZone;
+import java.util.List;
 
 public class TimeZonePropertyParameterTest
     extends BasicGeneratorPropertyParameterTest {
 
     public static final TimeZone TYPE_BEARER = null;
 
-    private static final String[] ZONES = TimeZone.getAvailableIDs();
+    private static final Table<TimeZone> VALUES = Registries.timeZones();
 
     @Override protected void primeSourceOfRandomness() {
-        when(randomForParameterGenerator.choose(ZONES))
-            .thenReturn(ZONES[1]).thenReturn(ZONES[0]).thenReturn(ZONES[2]);
+        when(randomForParameterGenerator.nextInt(VALUES.size()))
+            .thenReturn(1).thenReturn(0).thenReturn(2);
     }
 
     @Override protected int trials() {
@@ -50,13 +53,11 @@ public class TimeZonePropertyParameterTest
     }
 
     @Override protected List<?> randomValues() {
-        return asList(
-            TimeZone.getTimeZone(ZONES[1]),
-            TimeZone.getTimeZone(ZONES[0]),
-            TimeZone.getTimeZone(ZONES[2]));
+        return asList(VALUES.get(1), VALUES.get(0), VALUES.get(2));
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verify(randomForParameterGenerator, times(3)).choose(ZONES);
+        verify(randomForParameterGenerator, times(3))
+            .nextInt(VALUES.size());
     }
 }